@@ -0,0 +1,235 @@
+package com.edgescheduler.scheduleservice.cache;
+
+import com.edgescheduler.scheduleservice.vo.PeriodScheduleVO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 별 기간 조회 결과를 UTC 주 단위로 캐시
+ * <p>
+ * 키는 (사용자 ID, 주 번호, 사용자 버전)이고, 크기 제한을 넘으면 Caffeine 의 W-TinyLFU 정책으로 제거한다. 일정을 쓰는 쪽은 영향을 받는
+ * 사용자를 {@link #evictMembers(Collection)} 로 무효화해야 한다. 무효화는 사용자 버전만 올리므로 캐시 크기와 관계없이 비용이 일정하고, 이전
+ * 버전의 키는 다시 조회되지 않다가 크기 제한이나 만료로 제거된다.
+ * <p>
+ * 무효화한 시간도 함께 기록해서, 레플리카에 아직 복제되지 않았을 수 있는 사용자를 {@link #isRecentlyWritten(Integer)} 로 알려준다.
+ * <p>
+ * 무효화한 사용자는 모아 두었다가 {@link com.edgescheduler.scheduleservice.service.MemberScheduleCacheBroadcaster} 가 다른
+ * 인스턴스에 전달한다. 전달하지 못한 경우에만 다른 인스턴스가 expire-after-write 동안 이전 결과를 보여줄 수 있다.
+ */
+@Slf4j
+@Component
+public class MemberScheduleCache {
+
+    private static final long WEEK_SECONDS = Duration.ofDays(7).toSeconds();
+    // 1970-01-01 은 목요일이므로 월요일 00:00 UTC 에 주가 시작하도록 보정
+    private static final long MONDAY_SHIFT_SECONDS = Duration.ofDays(3).toSeconds();
+
+    // 사용자 버전을 나눠 담는 칸 수, 같은 칸의 사용자는 함께 무효화된다
+    private static final int VERSION_STRIPES = 4096;
+
+    private final Cache<WeekKey, List<PeriodScheduleVO>> cache;
+    // 사용자 ID 로 나눈 칸 별 무효화 횟수, 조회 중에 무효화되면 조회 결과는 이전 버전의 키로 들어가서 쓰이지 않는다
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    // 칸 별 마지막 무효화 시간(epoch ms)
+    private final AtomicLongArray writtenAt = new AtomicLongArray(VERSION_STRIPES);
+    // 쓰기 이후 레플리카에 반영되었다고 볼 수 없는 기간, 허용 복제 지연과 지연 확인 주기를 더한 값 이상이어야 한다
+    private final long recentWriteWindowMillis;
+    // 다른 인스턴스에 아직 전달하지 않은 무효화된 사용자
+    private final Set<Integer> unsentMemberIds = ConcurrentHashMap.newKeySet();
+
+    public MemberScheduleCache(
+        @Value("${schedule.cache.maximum-size:10000}") long maximumSize,
+        @Value("${schedule.cache.expire-after-write:10m}") Duration expireAfterWrite,
+        @Value("${schedule.cache.recent-write-window:10s}") Duration recentWriteWindow) {
+        this.recentWriteWindowMillis = recentWriteWindow.toMillis();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 조회 기간에 걸치는 주 단위 캐시를 모아 사용자 별 일정 반환
+     *
+     * @param memberIds 조회하는 사람들
+     * @param start     조회 시작 시간
+     * @param end       조회 종료 시간
+     * @param loader    캐시에 없는 사용자들의 한 주 일정을 DB 에서 조회
+     * @return 사용자 별 조회 기간에 걸치는 일정
+     */
+    public Map<Integer, List<PeriodScheduleVO>> getSchedules(Collection<Integer> memberIds,
+        Instant start, Instant end, PeriodScheduleLoader loader) {
+        Map<Integer, Long> memberVersions = new HashMap<>();
+        Map<Integer, List<PeriodScheduleVO>> result = new HashMap<>();
+        Map<Integer, Set<ScheduleKey>> addedKeys = new HashMap<>();
+        for (Integer memberId : memberIds) {
+            memberVersions.put(memberId, versionOf(memberId));
+            result.put(memberId, new ArrayList<>());
+            addedKeys.put(memberId, new HashSet<>());
+        }
+        for (long week = weekOf(start); week <= weekOf(end); week++) {
+            List<Integer> missingMemberIds = new ArrayList<>();
+            for (Integer memberId : memberIds) {
+                List<PeriodScheduleVO> schedules = cache.getIfPresent(
+                    new WeekKey(memberId, week, memberVersions.get(memberId)));
+                if (schedules == null) {
+                    missingMemberIds.add(memberId);
+                    continue;
+                }
+                addWithinPeriod(result.get(memberId), addedKeys.get(memberId), schedules, start,
+                    end);
+            }
+            if (missingMemberIds.isEmpty()) {
+                continue;
+            }
+            Instant weekStart = Instant.ofEpochSecond(week * WEEK_SECONDS - MONDAY_SHIFT_SECONDS);
+            Map<Integer, List<PeriodScheduleVO>> loaded = loader.load(missingMemberIds,
+                weekStart, weekStart.plusSeconds(WEEK_SECONDS));
+            for (Integer memberId : missingMemberIds) {
+                List<PeriodScheduleVO> schedules = List.copyOf(
+                    loaded.getOrDefault(memberId, List.of()));
+                cache.put(new WeekKey(memberId, week, memberVersions.get(memberId)), schedules);
+                addWithinPeriod(result.get(memberId), addedKeys.get(memberId), schedules, start,
+                    end);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자들의 캐시 무효화
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화해서, 커밋 전 데이터를 읽은 조회가 다시 캐시하는 것을 막는다. 다른 인스턴스에는 커밋
+     * 이후에 전달한다.
+     */
+    public void evictMembers(Collection<Integer> memberIds) {
+        evict(memberIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unsentMemberIds.addAll(memberIds);
+            return;
+        }
+        Set<Integer> evictedMemberIds = new HashSet<>(memberIds);
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(evictedMemberIds);
+                    unsentMemberIds.addAll(evictedMemberIds);
+                }
+            });
+    }
+
+    // 다른 인스턴스가 전달한 무효화, 다시 전달하지 않는다
+    public void evictLocally(Collection<Integer> memberIds) {
+        evict(memberIds);
+    }
+
+    // 다른 인스턴스에 전달할 무효화된 사용자들을 꺼낸다
+    public List<Integer> drainUnsentMembers() {
+        List<Integer> memberIds = new ArrayList<>();
+        for (Integer memberId : unsentMemberIds) {
+            if (unsentMemberIds.remove(memberId)) {
+                memberIds.add(memberId);
+            }
+        }
+        return memberIds;
+    }
+
+    /**
+     * 최근에 일정이 바뀐 사용자인지 확인
+     * <p>
+     * 같은 칸의 다른 사용자가 쓴 경우에도 true 가 될 수 있다.
+     *
+     * @param memberId 확인할 사용자
+     * @return recent-write-window 안에 무효화된 적이 있으면 true
+     */
+    public boolean isRecentlyWritten(Integer memberId) {
+        return System.currentTimeMillis() - writtenAt.get(stripeOf(memberId))
+            < recentWriteWindowMillis;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.cache.stats-log-interval:PT10M}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("member schedule cache - size: {}, hit: {}, miss: {}, hit rate: {}, eviction: {}",
+            cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+            stats.evictionCount());
+    }
+
+    private void evict(Collection<Integer> memberIds) {
+        long now = System.currentTimeMillis();
+        for (Integer memberId : memberIds) {
+            versions.incrementAndGet(stripeOf(memberId));
+            writtenAt.set(stripeOf(memberId), now);
+        }
+    }
+
+    private long versionOf(Integer memberId) {
+        return versions.get(stripeOf(memberId));
+    }
+
+    private static int stripeOf(Integer memberId) {
+        return Math.floorMod(memberId, VERSION_STRIPES);
+    }
+
+    // 두 주에 걸친 일정은 양쪽 주에 모두 있으므로 한 번만 추가
+    private void addWithinPeriod(List<PeriodScheduleVO> result, Set<ScheduleKey> addedKeys,
+        List<PeriodScheduleVO> schedules, Instant start, Instant end) {
+        long startSecond = start.getEpochSecond();
+        long endSecond = end.getEpochSecond();
+        for (PeriodScheduleVO schedule : schedules) {
+            // 반복은 조회 기간과 실제로 겹치는 것만, 그 외 일정은 경계에 닿는 것까지 포함
+            boolean isWithinPeriod = schedule.isOccurrence()
+                ? schedule.endEpochSecond() > startSecond
+                && schedule.startEpochSecond() < endSecond
+                : schedule.endEpochSecond() >= startSecond
+                    && schedule.startEpochSecond() <= endSecond;
+            if (isWithinPeriod && addedKeys.add(
+                new ScheduleKey(schedule.scheduleId(), schedule.startEpochSecond()))) {
+                result.add(schedule);
+            }
+        }
+    }
+
+    private static long weekOf(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond() + MONDAY_SHIFT_SECONDS, WEEK_SECONDS);
+    }
+
+    private record WeekKey(int memberId, long week, long version) {
+
+    }
+
+    private record ScheduleKey(Long scheduleId, long startEpochSecond) {
+
+    }
+
+    @FunctionalInterface
+    public interface PeriodScheduleLoader {
+
+        Map<Integer, List<PeriodScheduleVO>> load(Collection<Integer> memberIds, Instant start,
+            Instant end);
+    }
+}
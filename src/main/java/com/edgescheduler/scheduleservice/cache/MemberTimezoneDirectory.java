@@ -0,0 +1,127 @@
+package com.edgescheduler.scheduleservice.cache;
+
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import com.edgescheduler.scheduleservice.exception.ErrorCode;
+import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 별 시간대를 메모리에 보관
+ * <p>
+ * 시작 시점에 전체를 읽어 두고, 시간대 변경 메시지를 받을 때마다 갱신한다. 없는 사용자만 DB 에서 한 번에 조회하므로 조회 경로에서는 DB 를
+ * 거의 거치지 않는다. 같은 시간대의 ZoneId 는 하나의 인스턴스를 공유한다.
+ * <p>
+ * 변경 메시지는 같은 컨슈머 그룹에서 파티션을 맡은 인스턴스만 받으므로, 다른 인스턴스는 refresh-interval 마다 DB 에서 다시 읽어 맞춘다.
+ * 시간대가 바뀐 사용자는 기간 조회 캐시도 무효화한다.
+ * <p>
+ * 키는 Integer 로 박싱되지만 사용자 한 명에 수십 바이트 수준이고 ZoneId 는 공유하므로, 원시 타입 맵을 위한 라이브러리는 추가하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberTimezoneDirectory {
+
+    private final MemberTimezoneRepository memberTimezoneRepository;
+    private final MemberScheduleCache memberScheduleCache;
+
+    private final Map<Integer, ZoneId> zoneIds = new ConcurrentHashMap<>();
+    private final Map<String, ZoneId> internedZoneIds = new ConcurrentHashMap<>();
+
+    @Value("${schedule.timezone.preload:true}")
+    private boolean preload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        if (!preload) {
+            return;
+        }
+        memberTimezoneRepository.findAll().forEach(this::put);
+        log.info("preloaded timezones of {} members", zoneIds.size());
+    }
+
+    /**
+     * 다른 인스턴스가 받은 시간대 변경을 DB 에서 읽어 반영
+     */
+    @Scheduled(fixedDelayString = "${schedule.timezone.refresh-interval:PT5M}",
+        initialDelayString = "${schedule.timezone.refresh-interval:PT5M}")
+    public void refresh() {
+        List<Integer> changedMemberIds = new ArrayList<>();
+        for (MemberTimezone memberTimezone : memberTimezoneRepository.findAll()) {
+            ZoneId previous = zoneIds.get(memberTimezone.getId());
+            ZoneId zoneId = put(memberTimezone);
+            if (previous != null && !previous.equals(zoneId)) {
+                changedMemberIds.add(memberTimezone.getId());
+            }
+        }
+        if (!changedMemberIds.isEmpty()) {
+            log.info("refreshed timezones of {} members", changedMemberIds.size());
+            memberScheduleCache.evictMembers(changedMemberIds);
+        }
+    }
+
+    public ZoneId getZoneId(Integer memberId) {
+        return findZoneId(memberId).orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build);
+    }
+
+    public Optional<ZoneId> findZoneId(Integer memberId) {
+        ZoneId zoneId = zoneIds.get(memberId);
+        if (zoneId != null) {
+            return Optional.of(zoneId);
+        }
+        return memberTimezoneRepository.findById(memberId).map(this::put);
+    }
+
+    /**
+     * 여러 사용자의 시간대 조회
+     *
+     * @param memberIds 조회할 사용자들
+     * @return 사용자 별 시간대
+     * @throws com.edgescheduler.scheduleservice.exception.ApplicationException 시간대가 없는 사용자가 있는 경우
+     */
+    public Map<Integer, ZoneId> getZoneIds(Collection<Integer> memberIds) {
+        Map<Integer, ZoneId> found = new HashMap<>();
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer memberId : memberIds) {
+            ZoneId zoneId = zoneIds.get(memberId);
+            if (zoneId != null) {
+                found.put(memberId, zoneId);
+            } else {
+                missingIds.add(memberId);
+            }
+        }
+        // 없는 사용자만 한 번에 조회
+        if (!missingIds.isEmpty()) {
+            for (MemberTimezone memberTimezone : memberTimezoneRepository.findAllById(missingIds)) {
+                found.put(memberTimezone.getId(), put(memberTimezone));
+            }
+            if (!found.keySet().containsAll(missingIds)) {
+                throw ErrorCode.TIMEZONE_NOT_FOUND.build();
+            }
+        }
+        return found;
+    }
+
+    public ZoneId put(MemberTimezone memberTimezone) {
+        ZoneId zoneId = internedZoneIds.computeIfAbsent(memberTimezone.getZoneId(), ZoneId::of);
+        zoneIds.put(memberTimezone.getId(), zoneId);
+        return zoneId;
+    }
+
+    public void evict(Integer memberId) {
+        zoneIds.remove(memberId);
+    }
+}
@@ -1,21 +1,140 @@
 package com.edgescheduler.scheduleservice.client;
 
 import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/**
+ * user-service 의 사용자 정보 조회
+ * <p>
+ * 조회 결과는 TTL 이 있는 로컬 캐시에 보관하고, 캐시에 없는 사용자들은 한 번에 모아서 동시에 조회한다. bulk-uri 가 설정되어 있으면 한
+ * 번의 요청으로 조회한다.
+ */
+@Slf4j
 @Service
 public class UserServiceClient {
 
+    private static final ParameterizedTypeReference<List<UserInfoResponse>> USER_LIST_TYPE =
+        new ParameterizedTypeReference<>() {
+        };
+
     private final WebClient webClient;
+    private final Cache<Integer, UserInfoResponse> cache;
+
+    // 사용자 별 조회를 동시에 보내는 최대 개수
+    @Value("${user-service.concurrency:16}")
+    private int concurrency = 16;
+
+    @Value("${user-service.timeout:3s}")
+    private Duration timeout = Duration.ofSeconds(3);
 
-    public UserServiceClient(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl("http://user-service").build();
+    // 여러 사용자를 한 번에 조회하는 API, 비어 있으면 사용자 별로 조회 (예: /members?ids={ids})
+    @Value("${user-service.bulk-uri:}")
+    private String bulkUri = "";
+
+    public UserServiceClient(WebClient.Builder webClientBuilder,
+        @Value("${user-service.base-url:http://user-service}") String baseUrl,
+        @Value("${user-service.cache.maximum-size:10000}") long maximumSize,
+        @Value("${user-service.cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
     }
 
     public UserInfoResponse getUserName(Integer id) {
+        return getUsers(List.of(id)).get(id);
+    }
+
+    /**
+     * 여러 사용자 정보 조회
+     *
+     * @param ids 조회할 사용자들
+     * @return 사용자 별 정보, 조회에 실패한 사용자는 포함하지 않음
+     */
+    public Map<Integer, UserInfoResponse> getUsers(Collection<Integer> ids) {
+        Map<Integer, UserInfoResponse> users = new HashMap<>(cache.getAllPresent(ids));
+        List<Integer> missingIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        missingIds.removeAll(users.keySet());
+        if (missingIds.isEmpty()) {
+            return users;
+        }
+        Map<Integer, UserInfoResponse> fetched = fetch(missingIds);
+        cache.putAll(fetched);
+        users.putAll(fetched);
+        return users;
+    }
+
+    public void evict(Integer id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${user-service.cache.stats-log-interval:PT10M}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("user cache - size: {}, hit: {}, miss: {}, hit rate: {}, eviction: {}",
+            cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+            stats.evictionCount());
+    }
+
+    private Map<Integer, UserInfoResponse> fetch(List<Integer> ids) {
+        Flux<Map.Entry<Integer, UserInfoResponse>> users = bulkUri.isEmpty() || ids.size() == 1
+            ? Flux.fromIterable(ids).flatMap(this::fetchOne, concurrency)
+            : fetchBulk(ids);
+        Map<Integer, UserInfoResponse> fetched = users
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .onErrorResume(e -> {
+                log.warn("failed to fetch users {}: {}", ids, e.getMessage());
+                return Mono.just(Map.of());
+            })
+            .block();
+        return fetched != null ? fetched : Map.of();
+    }
+
+    private Mono<Map.Entry<Integer, UserInfoResponse>> fetchOne(Integer id) {
         return webClient.get()
             .uri("/members/{id}", id)
-            .retrieve().bodyToMono(UserInfoResponse.class).block();
+            .retrieve()
+            .bodyToMono(UserInfoResponse.class)
+            .timeout(timeout)
+            .map(user -> Map.entry(id, user))
+            .onErrorResume(e -> {
+                log.warn("failed to fetch user {}: {}", id, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private Flux<Map.Entry<Integer, UserInfoResponse>> fetchBulk(List<Integer> ids) {
+        String joinedIds = String.join(",", ids.stream().map(String::valueOf).toList());
+        return webClient.get()
+            .uri(bulkUri, joinedIds)
+            .retrieve()
+            .bodyToMono(USER_LIST_TYPE)
+            .timeout(timeout)
+            .flatMapIterable(users -> users)
+            .filter(user -> user.getId() != null)
+            .map(user -> Map.entry(user.getId(), user));
     }
 }
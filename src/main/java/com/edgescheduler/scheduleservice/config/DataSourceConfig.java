@@ -0,0 +1,73 @@
+package com.edgescheduler.scheduleservice.config;
+
+import com.edgescheduler.scheduleservice.config.datasource.ReplicaLagChecker;
+import com.edgescheduler.scheduleservice.config.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/*
+ * datasource.replica.url 이 설정되어 있으면 읽기 전용 트랜잭션은 레플리카로 보낸다.
+ * 설정이 없으면 spring.datasource 하나만 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+        @Value("${datasource.replica.url}") String url,
+        @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+        @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+        @Value("${datasource.replica.maximum-pool-size:20}") int maximumPoolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class).url(url).username(username).password(password).build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @Bean
+    public ReplicaLagChecker replicaLagChecker(
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaRoutingDataSource routingDataSource,
+        @Value("${datasource.replica.lag-query:}") String lagQuery,
+        @Value("${datasource.replica.max-lag:5s}") Duration maxLag) {
+        return new ReplicaLagChecker(replicaDataSource, routingDataSource, lagQuery, maxLag);
+    }
+
+    // 트랜잭션의 읽기 전용 여부가 정해진 뒤 실제로 쿼리할 때 연결을 고른다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
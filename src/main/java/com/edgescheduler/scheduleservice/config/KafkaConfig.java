@@ -1,23 +1,131 @@
 package com.edgescheduler.scheduleservice.config;
 
+import com.edgescheduler.scheduleservice.config.deserializer.MemberProfileMessageDeserializer;
+import com.edgescheduler.scheduleservice.config.deserializer.ScheduleCacheEvictMessageDeserializer;
+import com.edgescheduler.scheduleservice.config.serializer.CompactMessageSerializer;
 import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MemberProfileMessage;
+import com.edgescheduler.scheduleservice.message.ScheduleCacheEvictMessage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
 
 @Configuration
 public class KafkaConfig {
 
+    // 회의 생성이 몰릴 때 요청을 묶어 보내도록 배치 크기와 대기 시간을 늘리고 압축한다
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.producer.acks:all}")
+    private String acks;
+
+    // 압축 바이너리 형식으로 보낼 토픽, 나머지 토픽은 기존 JSON 형식
+    @Value("${kafka.producer.compact-topics:}")
+    private Set<String> compactTopics;
+
     @Bean
     public ProducerFactory<String, KafkaEventMessage> producerFactory(KafkaProperties properties) {
-        return new DefaultKafkaProducerFactory<>(properties.buildProducerProperties(null));
+        Map<String, Object> props = properties.buildProducerProperties(null);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        // 재시도해도 같은 키의 메시지 순서가 바뀌지 않도록 멱등성 사용
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        Map<Pattern, Serializer<?>> serializers = new LinkedHashMap<>();
+        for (String topic : compactTopics) {
+            if (!topic.isBlank()) {
+                serializers.put(Pattern.compile(Pattern.quote(topic.trim())),
+                    new CompactMessageSerializer());
+            }
+        }
+        if (serializers.isEmpty()) {
+            return new DefaultKafkaProducerFactory<>(props);
+        }
+        return new DefaultKafkaProducerFactory<>(props, new StringSerializer(),
+            castSerializer(new DelegatingByTopicSerializer(serializers, new JsonSerializer<>())));
     }
 
     @Bean
     public KafkaTemplate<String, KafkaEventMessage> kafkaTemplate(KafkaProperties properties) {
         return new KafkaTemplate<>(producerFactory(properties));
     }
+
+    // 기본 value-deserializer 는 시간대 메시지용이므로 사용자 정보 메시지는 별도의 컨테이너 팩토리 사용
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> memberProfileListenerContainerFactory(
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+        KafkaProperties properties) {
+        ConsumerFactory<String, MemberProfileMessage> consumerFactory = new DefaultKafkaConsumerFactory<>(
+            properties.buildConsumerProperties(null), new StringDeserializer(),
+            new MemberProfileMessageDeserializer());
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, castConsumerFactory(consumerFactory));
+        return factory;
+    }
+
+    // 캐시 무효화 메시지는 인스턴스마다 다른 그룹으로 받으며, 시작 전에 쌓인 메시지는 읽지 않는다
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> scheduleCacheEvictListenerContainerFactory(
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+        KafkaProperties properties) {
+        Map<String, Object> props = properties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        ConsumerFactory<String, ScheduleCacheEvictMessage> consumerFactory = new DefaultKafkaConsumerFactory<>(
+            props, new StringDeserializer(), new ScheduleCacheEvictMessageDeserializer());
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, castConsumerFactory(consumerFactory));
+        return factory;
+    }
+
+    // 시간대 변경 메시지는 한 번에 받은 메시지를 묶어서 처리
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> timezoneBatchListenerContainerFactory(
+        ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+        ConsumerFactory<Object, Object> kafkaConsumerFactory,
+        @Value("${kafka.listener.timezone.max-poll-records:500}") int maxPollRecords) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().getKafkaConsumerProperties()
+            .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        return factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Serializer<KafkaEventMessage> castSerializer(Serializer<?> serializer) {
+        return (Serializer<KafkaEventMessage>) serializer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConsumerFactory<Object, Object> castConsumerFactory(
+        ConsumerFactory<?, ?> consumerFactory) {
+        return (ConsumerFactory<Object, Object>) consumerFactory;
+    }
 }
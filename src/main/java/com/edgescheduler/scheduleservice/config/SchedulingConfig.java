@@ -0,0 +1,46 @@
+package com.edgescheduler.scheduleservice.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+ * 오래 걸릴 수 있는 작업이 다른 주기 작업을 막지 않도록 스케줄러를 나눈다.
+ * 아웃박스 발행, 복제 지연 확인, 캐시 무효화 전달은 전용 스레드에서, 나머지는 기본 스케줄러(spring.task.scheduling.*)에서 실행한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    // 이름을 가진 스케줄러를 등록하면 자동 설정된 기본 스케줄러가 빠지므로 직접 등록한다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    // 한 번 실행이 max-batches x send-timeout 까지 걸릴 수 있다
+    @Bean
+    public ThreadPoolTaskScheduler outboxRelayScheduler() {
+        return singleThreadScheduler("outbox-relay-");
+    }
+
+    // 다른 작업이 오래 걸려도 지연 확인이 밀려서 지난 결과로 라우팅하지 않도록 한다
+    @Bean
+    public ThreadPoolTaskScheduler replicaLagCheckScheduler() {
+        return singleThreadScheduler("replica-lag-check-");
+    }
+
+    // 발행이 막혀도 다른 작업을 기다리게 하지 않는다
+    @Bean
+    public ThreadPoolTaskScheduler scheduleCacheBroadcastScheduler() {
+        return singleThreadScheduler("schedule-cache-broadcast-");
+    }
+
+    private static ThreadPoolTaskScheduler singleThreadScheduler(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
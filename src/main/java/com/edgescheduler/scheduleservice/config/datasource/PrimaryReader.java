@@ -0,0 +1,28 @@
+package com.edgescheduler.scheduleservice.config.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 읽기 전용 트랜잭션 안에서도 프라이머리에서 조회
+ * <p>
+ * 새 트랜잭션을 열어 조회하므로 바깥 트랜잭션과 연결, 영속성 컨텍스트를 공유하지 않는다. 조회 결과는 엔티티가 아닌 값으로 만들어서 반환해야 한다.
+ */
+@Component
+public class PrimaryReader {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        return transactionTemplate.execute(status -> reader.get());
+    }
+}
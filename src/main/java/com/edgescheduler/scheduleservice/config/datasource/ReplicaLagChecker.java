@@ -0,0 +1,62 @@
+package com.edgescheduler.scheduleservice.config.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카의 복제 지연을 주기적으로 확인해서 라우팅 여부를 정한다
+ * <p>
+ * lag-query 가 비어 있으면 SHOW REPLICA STATUS 의 Seconds_Behind_Source 를 사용한다. 복제가 멈춰 있거나 확인에 실패하면
+ * 사용하지 않는다.
+ */
+@Slf4j
+public class ReplicaLagChecker {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    public ReplicaLagChecker(DataSource replica, ReplicaRoutingDataSource routingDataSource,
+        String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval:PT5S}",
+        scheduler = "replicaLagCheckScheduler")
+    public void check() {
+        boolean available;
+        try {
+            Duration lag = measureLag();
+            available = lag != null && lag.compareTo(maxLag) <= 0;
+            if (!available) {
+                log.warn("replica lag {} exceeds {}", lag, maxLag);
+            }
+        } catch (DataAccessException e) {
+            log.warn("failed to check replica lag: {}", e.getMessage());
+            available = false;
+        }
+        routingDataSource.setReplicaAvailable(available);
+    }
+
+    // 복제 지연, 복제 중이 아니면 null
+    private Duration measureLag() {
+        if (lagQuery.isEmpty()) {
+            List<Long> lags = replicaJdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : seconds;
+            });
+            return lags.isEmpty() || lags.get(0) == null ? null : Duration.ofSeconds(lags.get(0));
+        }
+        Long seconds = replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+        return seconds != null ? Duration.ofSeconds(seconds) : null;
+    }
+}
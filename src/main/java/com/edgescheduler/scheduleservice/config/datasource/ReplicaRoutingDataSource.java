@@ -0,0 +1,69 @@
+package com.edgescheduler.scheduleservice.config.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 DataSource
+ * <p>
+ * 레플리카가 지연되거나 연결할 수 없으면 읽기 전용 트랜잭션도 프라이머리로 보낸다. 트랜잭션이 시작된 뒤에 연결을 고를 수 있도록
+ * LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum DataSourceType {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+
+    // 상태 확인 전까지는 프라이머리만 사용
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary,
+            DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        if (this.replicaAvailable != replicaAvailable) {
+            log.info("replica {}", replicaAvailable ? "available" : "unavailable");
+        }
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            ? DataSourceType.REPLICA : DataSourceType.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (target == primary) {
+                throw e;
+            }
+            // 다음 상태 확인까지 레플리카를 쓰지 않는다
+            log.warn("failed to connect to replica, falling back to primary: {}", e.getMessage());
+            setReplicaAvailable(false);
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.edgescheduler.scheduleservice.config.deserializer;
+
+import com.edgescheduler.scheduleservice.config.serializer.CompactMessageCodec;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class CompactMessageDeserializer implements Deserializer<KafkaEventMessage> {
+
+    @Override
+    public KafkaEventMessage deserialize(String topic, byte[] data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return CompactMessageCodec.decode(data);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Error deserializing compact message from " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.edgescheduler.scheduleservice.config.deserializer;
+
+import com.edgescheduler.scheduleservice.message.MemberProfileMessage;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class MemberProfileMessageDeserializer implements Deserializer<MemberProfileMessage> {
+
+    // user-service 가 필드를 추가해도 읽을 수 있도록 모르는 필드는 무시
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public MemberProfileMessage deserialize(String topic, byte[] data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(data, MemberProfileMessage.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deserializing MemberProfileMessage", e);
+        }
+    }
+}
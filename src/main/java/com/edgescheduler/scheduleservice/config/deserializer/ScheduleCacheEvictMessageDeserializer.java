@@ -0,0 +1,30 @@
+package com.edgescheduler.scheduleservice.config.deserializer;
+
+import com.edgescheduler.scheduleservice.message.ScheduleCacheEvictMessage;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class ScheduleCacheEvictMessageDeserializer implements
+    Deserializer<ScheduleCacheEvictMessage> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public ScheduleCacheEvictMessage deserialize(String topic, byte[] data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(data, ScheduleCacheEvictMessage.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deserializing ScheduleCacheEvictMessage", e);
+        }
+    }
+}
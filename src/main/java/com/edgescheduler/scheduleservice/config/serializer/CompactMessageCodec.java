@@ -0,0 +1,352 @@
+package com.edgescheduler.scheduleservice.config.serializer;
+
+import com.edgescheduler.scheduleservice.message.AttendeeProposalMessage;
+import com.edgescheduler.scheduleservice.message.AttendeeResponseMessage;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MeetingCreateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingDeleteMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
+import com.edgescheduler.scheduleservice.message.Response;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KafkaEventMessage 의 압축 바이너리 형식
+ * <p>
+ * [MAGIC][VERSION][타입] 뒤에 메시지 별로 정해진 순서대로 필드를 쓴다. 정수는 zigzag varint, 시간은 UTC epoch 초(초 미만은 버림), ID
+ * 목록은 앞 ID 와의 차이로 쓴다. null 을 표현하기 위해 값이 있는 정수와 길이는 1 을 더해서 쓰고 0 은 null 이다. JSON 은 '{' 로
+ * 시작하므로 첫 바이트로 두 형식을 구분할 수 있다.
+ * <p>
+ * 필드를 추가하거나 순서를 바꾸면 VERSION 을 올리고 이전 버전도 읽을 수 있게 해야 한다.
+ */
+public final class CompactMessageCodec {
+
+    public static final byte MAGIC = 0;
+    public static final byte VERSION = 1;
+
+    private static final int MEETING_CREATE = 1;
+    private static final int MEETING_UPDATE = 2;
+    private static final int MEETING_DELETE = 3;
+    private static final int ATTENDEE_RESPONSE = 4;
+    private static final int ATTENDEE_PROPOSAL = 5;
+
+    private static final UpdatedField[] UPDATED_FIELDS = UpdatedField.values();
+    private static final Response[] RESPONSES = Response.values();
+
+    private CompactMessageCodec() {
+    }
+
+    public static byte[] encode(KafkaEventMessage message) {
+        Writer out = new Writer();
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        if (message instanceof MeetingCreateMessage m) {
+            out.writeByte(MEETING_CREATE);
+            out.writeTime(m.getOccurredAt());
+            out.writeLong(m.getScheduleId());
+            out.writeString(m.getScheduleName());
+            out.writeInt(m.getOrganizerId());
+            out.writeString(m.getOrganizerName());
+            out.writeTime(m.getStartTime());
+            out.writeTime(m.getEndTime());
+            out.writeInt(m.getRunningTime());
+            out.writeIds(m.getAttendeeIds());
+        } else if (message instanceof MeetingUpdateMessage m) {
+            out.writeByte(MEETING_UPDATE);
+            out.writeTime(m.getOccurredAt());
+            out.writeLong(m.getScheduleId());
+            out.writeString(m.getScheduleName());
+            out.writeInt(m.getOrganizerId());
+            out.writeString(m.getOrganizerName());
+            out.writeTime(m.getPreviousStartTime());
+            out.writeTime(m.getPreviousEndTime());
+            out.writeTime(m.getUpdatedStartTime());
+            out.writeTime(m.getUpdatedEndTime());
+            out.writeInt(m.getRunningTime());
+            out.writeIds(m.getMaintainedAttendeeIds());
+            out.writeIds(m.getAddedAttendeeIds());
+            out.writeIds(m.getRemovedAttendeeIds());
+            out.writeIds(m.getUpdatedFields() == null ? null
+                : m.getUpdatedFields().stream().map(Enum::ordinal).toList());
+        } else if (message instanceof MeetingDeleteMessage m) {
+            out.writeByte(MEETING_DELETE);
+            out.writeTime(m.getOccurredAt());
+            out.writeLong(m.getScheduleId());
+            out.writeString(m.getScheduleName());
+            out.writeInt(m.getOrganizerId());
+            out.writeString(m.getOrganizerName());
+            out.writeTime(m.getStartTime());
+            out.writeTime(m.getEndTime());
+            out.writeInt(m.getRunningTime());
+            out.writeIds(m.getAttendeeIds());
+        } else if (message instanceof AttendeeResponseMessage m) {
+            out.writeByte(ATTENDEE_RESPONSE);
+            out.writeTime(m.getOccurredAt());
+            out.writeLong(m.getScheduleId());
+            out.writeString(m.getScheduleName());
+            out.writeTime(m.getStartTime());
+            out.writeTime(m.getEndTime());
+            out.writeInt(m.getOrganizerId());
+            out.writeInt(m.getAttendeeId());
+            out.writeString(m.getAttendeeName());
+            out.writeInt(m.getResponse() == null ? null : m.getResponse().ordinal());
+        } else if (message instanceof AttendeeProposalMessage m) {
+            out.writeByte(ATTENDEE_PROPOSAL);
+            out.writeTime(m.getOccurredAt());
+            out.writeLong(m.getScheduleId());
+            out.writeString(m.getScheduleName());
+            out.writeInt(m.getOrganizerId());
+            out.writeInt(m.getAttendeeId());
+            out.writeString(m.getAttendeeName());
+            out.writeTime(m.getStartTime());
+            out.writeTime(m.getEndTime());
+            out.writeLong(m.getProposalId());
+            out.writeTime(m.getProposedStartTime());
+            out.writeTime(m.getProposedEndTime());
+            out.writeInt(m.getRunningTime());
+            out.writeString(m.getReason());
+        } else {
+            throw new IllegalArgumentException(
+                "Unsupported message type " + message.getClass().getName());
+        }
+        return out.toByteArray();
+    }
+
+    public static KafkaEventMessage decode(byte[] data) {
+        Reader in = new Reader(data);
+        if (in.readByte() != MAGIC) {
+            throw new IllegalArgumentException("Not a compact message");
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported compact message version " + version);
+        }
+        int type = in.readByte();
+        return switch (type) {
+            case MEETING_CREATE -> MeetingCreateMessage.builder()
+                .occurredAt(in.readTime())
+                .scheduleId(in.readLong())
+                .scheduleName(in.readString())
+                .organizerId(in.readInt())
+                .organizerName(in.readString())
+                .startTime(in.readTime())
+                .endTime(in.readTime())
+                .runningTime(in.readInt())
+                .attendeeIds(in.readIds())
+                .build();
+            case MEETING_UPDATE -> MeetingUpdateMessage.builder()
+                .occurredAt(in.readTime())
+                .scheduleId(in.readLong())
+                .scheduleName(in.readString())
+                .organizerId(in.readInt())
+                .organizerName(in.readString())
+                .previousStartTime(in.readTime())
+                .previousEndTime(in.readTime())
+                .updatedStartTime(in.readTime())
+                .updatedEndTime(in.readTime())
+                .runningTime(in.readInt())
+                .maintainedAttendeeIds(in.readIds())
+                .addedAttendeeIds(in.readIds())
+                .removedAttendeeIds(in.readIds())
+                .updatedFields(toUpdatedFields(in.readIds()))
+                .build();
+            case MEETING_DELETE -> MeetingDeleteMessage.builder()
+                .occurredAt(in.readTime())
+                .scheduleId(in.readLong())
+                .scheduleName(in.readString())
+                .organizerId(in.readInt())
+                .organizerName(in.readString())
+                .startTime(in.readTime())
+                .endTime(in.readTime())
+                .runningTime(in.readInt())
+                .attendeeIds(in.readIds())
+                .build();
+            case ATTENDEE_RESPONSE -> {
+                AttendeeResponseMessage.AttendeeResponseMessageBuilder<?, ?> builder =
+                    AttendeeResponseMessage.builder()
+                        .occurredAt(in.readTime())
+                        .scheduleId(in.readLong())
+                        .scheduleName(in.readString())
+                        .startTime(in.readTime())
+                        .endTime(in.readTime())
+                        .organizerId(in.readInt())
+                        .attendeeId(in.readInt())
+                        .attendeeName(in.readString());
+                Integer response = in.readInt();
+                yield builder.response(response == null ? null : RESPONSES[response]).build();
+            }
+            case ATTENDEE_PROPOSAL -> AttendeeProposalMessage.builder()
+                .occurredAt(in.readTime())
+                .scheduleId(in.readLong())
+                .scheduleName(in.readString())
+                .organizerId(in.readInt())
+                .attendeeId(in.readInt())
+                .attendeeName(in.readString())
+                .startTime(in.readTime())
+                .endTime(in.readTime())
+                .proposalId(in.readLong())
+                .proposedStartTime(in.readTime())
+                .proposedEndTime(in.readTime())
+                .runningTime(in.readInt())
+                .reason(in.readString())
+                .build();
+            default -> throw new IllegalArgumentException("Unknown compact message type " + type);
+        };
+    }
+
+    private static List<UpdatedField> toUpdatedFields(List<Integer> ordinals) {
+        if (ordinals == null) {
+            return null;
+        }
+        List<UpdatedField> fields = new ArrayList<>(ordinals.size());
+        for (Integer ordinal : ordinals) {
+            fields.add(UPDATED_FIELDS[ordinal]);
+        }
+        return fields;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+
+        void writeByte(int value) {
+            out.write(value);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeLong(Long value) {
+            writeVarLong(value == null ? 0 : zigzag(value) + 1);
+        }
+
+        void writeInt(Integer value) {
+            writeLong(value == null ? null : value.longValue());
+        }
+
+        void writeTime(LocalDateTime value) {
+            writeLong(value == null ? null : value.toEpochSecond(ZoneOffset.UTC));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            out.writeBytes(bytes);
+        }
+
+        void writeIds(List<Integer> ids) {
+            if (ids == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(ids.size() + 1L);
+            long previous = 0;
+            for (Integer id : ids) {
+                writeVarLong(zigzag(id - previous));
+                previous = id;
+            }
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Truncated compact message");
+            }
+            return data[position++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in compact message");
+        }
+
+        Long readLong() {
+            long value = readVarLong();
+            return value == 0 ? null : unzigzag(value - 1);
+        }
+
+        Integer readInt() {
+            Long value = readLong();
+            return value == null ? null : Math.toIntExact(value);
+        }
+
+        LocalDateTime readTime() {
+            Long value = readLong();
+            return value == null ? null : LocalDateTime.ofEpochSecond(value, 0, ZoneOffset.UTC);
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int size = Math.toIntExact(length - 1);
+            if (size > data.length - position) {
+                throw new IllegalArgumentException("Truncated compact message");
+            }
+            String value = new String(data, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+
+        List<Integer> readIds() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int size = Math.toIntExact(length - 1);
+            if (size > data.length - position) {
+                throw new IllegalArgumentException("Truncated compact message");
+            }
+            List<Integer> ids = new ArrayList<>(size);
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                previous += unzigzag(readVarLong());
+                ids.add(Math.toIntExact(previous));
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.edgescheduler.scheduleservice.config.serializer;
+
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class CompactMessageSerializer implements Serializer<KafkaEventMessage> {
+
+    @Override
+    public byte[] serialize(String topic, KafkaEventMessage data) {
+
+        if (data == null) {
+            return null;
+        }
+
+        return CompactMessageCodec.encode(data);
+    }
+}
@@ -27,6 +27,7 @@ public class TestController {
             .runningTime(60)
             .attendeeIds(IntStream.range(1, 6).boxed().toList())
             .build();
-        kafkaProducer.send("meeting-created", meetingCreateMessage);
+        kafkaProducer.send("meeting-created",
+            String.valueOf(meetingCreateMessage.getScheduleId()), meetingCreateMessage);
     }
 }
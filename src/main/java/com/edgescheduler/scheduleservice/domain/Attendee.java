@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,8 +24,10 @@ import lombok.NoArgsConstructor;
 @Entity
 public class Attendee {
 
+    // 여러 행을 JDBC 배치로 저장할 수 있도록 ID 를 50개씩 미리 받아 둔다 (MySQL 에서는 attendee_seq 테이블)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendee_seq")
+    @SequenceGenerator(name = "attendee_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -55,4 +58,8 @@ public class Attendee {
     public void updateProposal(Proposal proposal) {
         this.proposal = proposal;
     }
+
+    public void changeRequired(Boolean isRequired) {
+        this.isRequired = isRequired;
+    }
 }
@@ -0,0 +1,39 @@
+package com.edgescheduler.scheduleservice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// user-service 의 사용자 정보 중 일정 조회에 필요한 부분만 보관
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class MemberProfile {
+
+    @Id
+    private Integer id;
+
+    private String name;
+
+    private Integer profile;
+
+    private String department;
+
+    private String region;
+
+    private String zoneId;
+
+    public void changeProfile(String name, Integer profile, String department, String region,
+        String zoneId) {
+        this.name = name;
+        this.profile = profile;
+        this.department = department;
+        this.region = region;
+        this.zoneId = zoneId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.edgescheduler.scheduleservice.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일정 변경과 같은 트랜잭션에 저장하고 OutboxRelay 가 Kafka 로 발행한 뒤 삭제하는 메시지
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 메시지 키, 같은 일정의 메시지는 저장된 순서대로 발행
+    @NotNull
+    private Long scheduleId;
+
+    @NotNull
+    private String topic;
+
+    // 메시지 클래스 이름
+    @NotNull
+    private String payloadType;
+
+    @NotNull
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @NotNull
+    private Instant createdAt;
+
+    // 이 시간까지는 가져간 인스턴스가 발행 중, 지나면 다른 인스턴스가 다시 가져갈 수 있다
+    private Instant claimedUntil;
+}
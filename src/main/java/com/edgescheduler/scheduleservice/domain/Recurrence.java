@@ -7,6 +7,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
 import java.util.EnumSet;
@@ -23,7 +25,8 @@ import lombok.NoArgsConstructor;
 public class Recurrence {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurrence_seq")
+    @SequenceGenerator(name = "recurrence_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -40,8 +43,22 @@ public class Recurrence {
     @Convert(converter = RecurrenceDaySetConverter.class)
     private EnumSet<RecurrenceDayType> recurrenceDay;
 
+    // schedule_occurrence 에 미리 생성해 둔 반복의 시작 시간 범위 [materializedFrom, materializedUntil)
+    private Instant materializedFrom;
+
+    private Instant materializedUntil;
+
+    // 주기적인 생성 범위 연장과 쓰기 시점의 재생성이 서로의 갱신을 덮어쓰지 않도록 한다
+    @Version
+    private Long version;
+
     public void terminateRecurrenceByDate(Instant expiredInstant) {
         this.expiredDate = expiredInstant;
         this.count = null;
     }
+
+    public void markMaterialized(Instant materializedFrom, Instant materializedUntil) {
+        this.materializedFrom = materializedFrom;
+        this.materializedUntil = materializedUntil;
+    }
 }
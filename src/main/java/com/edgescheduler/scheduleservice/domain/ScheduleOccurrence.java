@@ -0,0 +1,54 @@
+package com.edgescheduler.scheduleservice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ResultCheckStyle;
+import org.hibernate.annotations.SQLInsert;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_schedule_occurrence_schedule_start",
+    columnNames = {"schedule_id", "start_datetime"}))
+// 다른 트랜잭션이 이미 생성한 반복은 건너뛴다, 건너뛴 행은 갱신 행 수가 0 이므로 확인하지 않는다
+@SQLInsert(sql = "INSERT IGNORE INTO schedule_occurrence "
+    + "(end_datetime, member_id, schedule_id, start_datetime, type, id) "
+    + "VALUES (?, ?, ?, ?, ?, ?)", check = ResultCheckStyle.NONE)
+public class ScheduleOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_occurrence_seq")
+    @SequenceGenerator(name = "schedule_occurrence_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    private Long scheduleId;
+
+    @NotNull
+    private Integer memberId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private ScheduleType type;
+
+    @NotNull
+    private Instant startDatetime;
+
+    @NotNull
+    private Instant endDatetime;
+}
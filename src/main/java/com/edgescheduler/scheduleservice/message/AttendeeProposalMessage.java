@@ -3,6 +3,7 @@ package com.edgescheduler.scheduleservice.message;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Getter
@@ -14,6 +15,7 @@ public class AttendeeProposalMessage extends KafkaEventMessage {
     private String scheduleName;
     private Integer organizerId;
     private Integer attendeeId;
+    @Setter
     private String attendeeName;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
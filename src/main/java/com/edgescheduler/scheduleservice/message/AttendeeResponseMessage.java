@@ -17,6 +17,7 @@ public class AttendeeResponseMessage extends KafkaEventMessage {
     private LocalDateTime endTime;
     private Integer organizerId;
     private Integer attendeeId;
+    @Setter
     private String attendeeName;
 
     @Setter
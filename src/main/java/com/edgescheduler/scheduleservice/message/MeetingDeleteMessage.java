@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Getter
@@ -14,6 +15,7 @@ public class MeetingDeleteMessage extends KafkaEventMessage {
     private Long scheduleId;
     private String scheduleName;
     private Integer organizerId;
+    @Setter
     private String organizerName;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
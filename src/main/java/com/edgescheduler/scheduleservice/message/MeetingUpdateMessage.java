@@ -18,6 +18,7 @@ public class MeetingUpdateMessage extends KafkaEventMessage {
 
     private Integer organizerId;
 
+    @Setter
     private String organizerName;
 
     @Setter
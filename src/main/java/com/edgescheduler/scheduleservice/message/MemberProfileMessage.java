@@ -0,0 +1,20 @@
+package com.edgescheduler.scheduleservice.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberProfileMessage {
+
+    private Integer memberId;
+    private String name;
+    private Integer profile;
+    private String department;
+    private String region;
+    private String zoneId;
+}
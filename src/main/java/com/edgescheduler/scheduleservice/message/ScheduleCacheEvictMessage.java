@@ -0,0 +1,17 @@
+package com.edgescheduler.scheduleservice.message;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 다른 인스턴스의 기간 조회 캐시에서 무효화할 사용자들
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class ScheduleCacheEvictMessage extends KafkaEventMessage {
+
+    // 보낸 인스턴스, 자신이 보낸 메시지는 무시한다
+    private String instanceId;
+    private List<Integer> memberIds;
+}
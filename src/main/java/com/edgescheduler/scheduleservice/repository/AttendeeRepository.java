@@ -3,6 +3,9 @@ package com.edgescheduler.scheduleservice.repository;
 import com.edgescheduler.scheduleservice.domain.Attendee;
 import com.edgescheduler.scheduleservice.domain.Proposal;
 import com.edgescheduler.scheduleservice.domain.Schedule;
+import com.edgescheduler.scheduleservice.vo.AttendingMeetingVO;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +18,20 @@ public interface AttendeeRepository extends JpaRepository<Attendee, Long> {
 
     List<Attendee> findByMemberId(Integer memberId);
 
+    // 조회 기간에 걸치는 사용자들이 참여 중인 회의 일정
+    @Query("SELECT new com.edgescheduler.scheduleservice.vo.AttendingMeetingVO("
+        + "a.memberId, s.id, s.organizerId, s.name, s.type, s.color, s.startDatetime, s.endDatetime, "
+        + "s.isPublic, a.isRequired, a.status, a.reason) "
+        + "FROM Attendee a JOIN a.schedule s "
+        + "WHERE a.memberId IN :memberIds "
+        + "AND s.startDatetime <= :end "
+        + "AND s.endDatetime >= :start")
+    List<AttendingMeetingVO> findAttendingMeetingsByMemberIdsWithinPeriod(
+        Collection<Integer> memberIds, Instant start, Instant end);
+
+    @Query("SELECT a.memberId FROM Attendee a WHERE a.schedule.id = :scheduleId")
+    List<Integer> findMemberIdsByScheduleId(Long scheduleId);
+
     Optional<Attendee> findByScheduleIdAndMemberId(Long scheduleId, Integer memberId);
 
     @Modifying
@@ -25,4 +42,11 @@ public interface AttendeeRepository extends JpaRepository<Attendee, Long> {
     @Query("UPDATE Attendee a SET a.proposal = NULL WHERE a.proposal = :proposal")
     void deleteOneProposalByProposal(Proposal proposal);
 
+    @Query("SELECT a.proposal.id FROM Attendee a WHERE a.schedule.id IN :scheduleIds AND a.proposal IS NOT NULL")
+    List<Long> findProposalIdsByScheduleIdIn(Collection<Long> scheduleIds);
+
+    @Modifying
+    @Query("DELETE FROM Attendee a WHERE a.schedule.id IN :scheduleIds")
+    void deleteByScheduleIdIn(Collection<Long> scheduleIds);
+
 }
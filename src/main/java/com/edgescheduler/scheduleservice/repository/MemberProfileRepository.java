@@ -0,0 +1,8 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import com.edgescheduler.scheduleservice.domain.MemberProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MemberProfileRepository extends JpaRepository<MemberProfile, Integer> {
+
+}
@@ -3,6 +3,7 @@ package com.edgescheduler.scheduleservice.repository;
 import com.edgescheduler.scheduleservice.domain.MemberTimezone;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface MemberTimezoneRepository extends JpaRepository<MemberTimezone, Integer> {
+public interface MemberTimezoneRepository extends JpaRepository<MemberTimezone, Integer>,
+    MemberTimezoneRepositoryCustom {
 
 }
@@ -0,0 +1,10 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import java.util.Collection;
+
+public interface MemberTimezoneRepositoryCustom {
+
+    // 있으면 시간대를 바꾸고 없으면 추가, 사용자 ID 는 중복되지 않아야 한다
+    void upsertAll(Collection<MemberTimezone> memberTimezones);
+}
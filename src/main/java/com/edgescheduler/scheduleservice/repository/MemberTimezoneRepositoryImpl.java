@@ -0,0 +1,75 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class MemberTimezoneRepositoryImpl implements MemberTimezoneRepositoryCustom {
+
+    private static final String UPSERT_PREFIX = "INSERT INTO member_timezone (id, zone_id) VALUES ";
+    // VALUES() 함수는 MySQL 8.0.20 부터 deprecated 이므로 행 별칭으로 새 값을 참조한다
+    private static final String UPSERT_SUFFIX = " AS new ON DUPLICATE KEY UPDATE zone_id = new.zone_id";
+    // 행 별칭을 지원하지 않는 DB (MySQL 8.0.19 이전, H2 MySQL 모드 등)
+    private static final String LEGACY_UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE zone_id = VALUES(zone_id)";
+
+    // 서버 버전 문자열의 패치 버전 (예: 8.0.36-0ubuntu0.22.04.1 의 36)
+    private static final Pattern PATCH_VERSION = Pattern.compile("^\\d+\\.\\d+\\.(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSuffix;
+
+    // 한 문장에 넣는 최대 행 수
+    @Value("${schedule.timezone.upsert-chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Override
+    public void upsertAll(Collection<MemberTimezone> memberTimezones) {
+        List<MemberTimezone> rows = new ArrayList<>(memberTimezones);
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<MemberTimezone> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+                args[i * 2] = chunk.get(i).getId();
+                args[i * 2 + 1] = chunk.get(i).getZoneId();
+            }
+            jdbcTemplate.update(sql.append(upsertSuffix()).toString(), args);
+        }
+    }
+
+    private String upsertSuffix() {
+        if (upsertSuffix == null) {
+            upsertSuffix = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                return supportsRowAlias(metaData.getDatabaseProductName(),
+                    metaData.getDatabaseMajorVersion(), metaData.getDatabaseMinorVersion(),
+                    metaData.getDatabaseProductVersion()) ? UPSERT_SUFFIX : LEGACY_UPSERT_SUFFIX;
+            });
+        }
+        return upsertSuffix;
+    }
+
+    // INSERT ... AS 행 별칭은 MySQL 8.0.19 부터 지원한다, 8.0 은 서버 버전 문자열의 패치 버전으로 구분
+    static boolean supportsRowAlias(String productName, int majorVersion, int minorVersion,
+        String productVersion) {
+        if (!"MySQL".equals(productName)) {
+            return false;
+        }
+        if (majorVersion != 8 || minorVersion != 0) {
+            return majorVersion > 8 || majorVersion == 8 && minorVersion > 0;
+        }
+        Matcher matcher = PATCH_VERSION.matcher(productVersion);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) >= 19;
+    }
+}
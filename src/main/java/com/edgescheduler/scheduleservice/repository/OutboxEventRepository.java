@@ -0,0 +1,42 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import com.edgescheduler.scheduleservice.domain.OutboxEvent;
+import com.edgescheduler.scheduleservice.vo.OutboxEventIdVO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 아무도 발행 중이 아닌 메시지를 오래된 순서대로 잠근다, 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛴다 (-2: SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e "
+        + "WHERE e.claimedUntil IS NULL OR e.claimedUntil < :now "
+        + "ORDER BY e.id ASC")
+    List<OutboxEvent> findClaimable(Instant now, Limit limit);
+
+    // 일정 별로 maxId 보다 먼저 쌓였지만 ids 에 없는 가장 오래된 메시지
+    @Query("SELECT new com.edgescheduler.scheduleservice.vo.OutboxEventIdVO(e.scheduleId, MIN(e.id)) "
+        + "FROM OutboxEvent e "
+        + "WHERE e.scheduleId IN :scheduleIds AND e.id < :maxId AND e.id NOT IN :ids "
+        + "GROUP BY e.scheduleId")
+    List<OutboxEventIdVO> findOldestOtherEvents(Collection<Long> scheduleIds,
+        Collection<Long> ids, Long maxId);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    void claim(Collection<Long> ids, Instant claimedUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = NULL WHERE e.id IN :ids")
+    void release(Collection<Long> ids);
+}
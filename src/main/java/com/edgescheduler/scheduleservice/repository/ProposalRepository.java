@@ -1,8 +1,14 @@
 package com.edgescheduler.scheduleservice.repository;
 
 import com.edgescheduler.scheduleservice.domain.Proposal;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProposalRepository extends JpaRepository<Proposal, Long> {
 
+    @Modifying
+    @Query("DELETE FROM Proposal p WHERE p.id IN :ids")
+    void deleteByIdIn(Collection<Long> ids);
 }
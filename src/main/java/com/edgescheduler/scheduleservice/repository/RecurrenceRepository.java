@@ -1,8 +1,20 @@
 package com.edgescheduler.scheduleservice.repository;
 
 import com.edgescheduler.scheduleservice.domain.Recurrence;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface RecurrenceRepository extends JpaRepository<Recurrence, Long> {
 
+    @Modifying
+    @Query("UPDATE Recurrence r SET r.materializedFrom = NULL, r.materializedUntil = NULL, "
+        + "r.version = r.version + 1 "
+        + "WHERE r.id IN (SELECT s.recurrence.id FROM Schedule s WHERE s.organizerId IN :organizerIds)")
+    void clearMaterializedByOrganizerIdIn(Collection<Integer> organizerIds);
+
+    @Modifying
+    @Query("DELETE FROM Recurrence r WHERE r.id IN :ids")
+    void deleteByIdIn(Collection<Long> ids);
 }
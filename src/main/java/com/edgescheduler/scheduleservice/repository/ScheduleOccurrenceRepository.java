@@ -0,0 +1,28 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import com.edgescheduler.scheduleservice.domain.ScheduleOccurrence;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ScheduleOccurrenceRepository extends JpaRepository<ScheduleOccurrence, Long> {
+
+    @Query("SELECT o FROM ScheduleOccurrence o "
+        + "WHERE o.memberId IN :memberIds "
+        + "AND o.startDatetime < :end "
+        + "AND o.endDatetime > :start "
+        + "ORDER BY o.startDatetime ASC")
+    List<ScheduleOccurrence> findByMemberIdsWithinPeriod(Collection<Integer> memberIds,
+        Instant start, Instant end);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleOccurrence o WHERE o.scheduleId IN :scheduleIds")
+    void deleteByScheduleIdIn(Collection<Long> scheduleIds);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleOccurrence o WHERE o.memberId IN :memberIds")
+    void deleteByMemberIdIn(Collection<Integer> memberIds);
+}
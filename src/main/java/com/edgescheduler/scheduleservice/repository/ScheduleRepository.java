@@ -1,13 +1,27 @@
 package com.edgescheduler.scheduleservice.repository;
 
 import com.edgescheduler.scheduleservice.domain.Schedule;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
+    // 일정 상세 조회용, 반복 규칙과 참석자, 참석자의 제안까지 한 번에 조회
+    @EntityGraph(attributePaths = {"recurrence", "attendees", "attendees.proposal"})
+    @Query("SELECT s FROM Schedule s WHERE s.id = :id")
+    Optional<Schedule> findWithDetailsById(Long id);
+
     @Query("SELECT s FROM Schedule s JOIN s.attendees a "
         + "WHERE a.memberId = :attendeeId "
         + "AND a.status = 'ACCEPTED' "
@@ -23,11 +37,81 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("SELECT s FROM Schedule s WHERE s.organizerId = :organizerId AND s.type != 'MEETING' AND s.isDeleted = false")
     List<Schedule> findSchedulesExceptMeetingByOrganizerId(Integer organizerId);
 
+    // 사용자들의 조회 기간에 걸치는 회의 외 일정 (반복 일정은 조회 기간 전에 끝나지 않은 것만)
+    // 횟수 반복의 종료는 반복 단위를 일/7일/31일로 잡은 상한으로 계산
+    @Query("SELECT s FROM Schedule s LEFT JOIN FETCH s.recurrence r "
+        + "WHERE s.organizerId IN :organizerIds AND s.type != 'MEETING' AND s.isDeleted = false "
+        + "AND s.startDatetime <= :end "
+        + "AND ((r IS NULL AND s.endDatetime >= :start) "
+        + "OR (r IS NOT NULL "
+        + "AND (r.expiredDate IS NULL OR r.expiredDate + (s.endDatetime - s.startDatetime) > :start) "
+        + "AND (r.count IS NULL OR s.endDatetime + (CASE r.freq "
+        + "WHEN 'DAILY' THEN r.count * r.intv "
+        + "WHEN 'WEEKLY' THEN r.count * r.intv * 7 + 7 "
+        + "ELSE r.count * r.intv * 31 END) day >= :start)))")
+    List<Schedule> findSchedulesExceptMeetingByOrganizerIdsWithinPeriod(
+        Collection<Integer> organizerIds, Instant start, Instant end);
+
     // 수정 또는 삭제 된 회의 외 일정
     @Query("SELECT s FROM Schedule s WHERE s.parentSchedule IS NOT NULL AND s.organizerId = :organizerId AND s.type != 'MEETING'")
     List<Schedule> findModifiedOrDeletedNonMeetingSchedulesByOrganizerId(Integer organizerId);
 
+    // 사용자들의 원래 반복이 조회 기간에 걸치는 수정 또는 삭제 된 회의 외 일정
+    @Query("SELECT s FROM Schedule s "
+        + "WHERE s.parentSchedule IS NOT NULL AND s.organizerId IN :organizerIds AND s.type != 'MEETING' "
+        + "AND (s.isDeleted = true OR s.parentStartDatetime IS NOT NULL) "
+        + "AND COALESCE(s.parentStartDatetime, s.startDatetime) <= :end "
+        + "AND COALESCE(s.parentEndDatetime, s.endDatetime) >= :start")
+    List<Schedule> findModifiedOrDeletedNonMeetingSchedulesByOrganizerIdsWithinPeriod(
+        Collection<Integer> organizerIds, Instant start, Instant end);
+
     //
     @Query("SELECT s FROM Schedule s WHERE s.parentSchedule = :parentSchedule AND s.recurrence IS NOT NULL AND s.isDeleted = false ORDER BY s.startDatetime ASC LIMIT 1")
     Schedule findNextRecurrenceScheduleByParentScheduleAndStartDatetime(Schedule parentSchedule);
+
+    // afterId 다음부터, 미리 생성된 반복이 없거나 생성 기한이 threshold 이전이고 생성 기한 이후에도 반복이 남은 회의 외 반복 일정
+    // 횟수 반복의 종료는 기간 조회와 같은 상한으로 계산
+    // 다른 인스턴스가 늘리고 있는 반복 일정은 기다리지 않고 건너뛴다 (-2: SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.recurrence r "
+        + "WHERE s.id > :afterId AND s.type != 'MEETING' AND s.isDeleted = false "
+        + "AND (r.materializedUntil IS NULL "
+        + "OR (r.materializedUntil < :threshold "
+        + "AND (r.expiredDate IS NULL OR r.expiredDate > r.materializedUntil) "
+        + "AND (r.count IS NULL OR s.endDatetime + (CASE r.freq "
+        + "WHEN 'DAILY' THEN r.count * r.intv "
+        + "WHEN 'WEEKLY' THEN r.count * r.intv * 7 + 7 "
+        + "ELSE r.count * r.intv * 31 END) day > r.materializedUntil))) "
+        + "ORDER BY s.id ASC")
+    List<Schedule> findRecurrenceSchedulesToMaterialize(Long afterId, Instant threshold,
+        Limit limit);
+
+    // 수정/삭제로 이어진 일정들을 parent_schedule_id 를 따라 올라가 찾은 최상위 반복 일정
+    @Query(value = "WITH RECURSIVE ancestor (id, parent_schedule_id) AS ("
+        + "SELECT id, parent_schedule_id FROM schedule WHERE id = :scheduleId "
+        + "UNION ALL "
+        + "SELECT s.id, s.parent_schedule_id FROM schedule s JOIN ancestor a ON s.id = a.parent_schedule_id) "
+        + "SELECT id FROM ancestor WHERE parent_schedule_id IS NULL", nativeQuery = true)
+    Long findSeriesRootId(Long scheduleId);
+
+    // 최상위 반복 일정과 그 아래로 이어진 모든 일정
+    @Query(value = "WITH RECURSIVE series (id) AS ("
+        + "SELECT id FROM schedule WHERE id = :rootId "
+        + "UNION ALL "
+        + "SELECT s.id FROM schedule s JOIN series c ON s.parent_schedule_id = c.id) "
+        + "SELECT id FROM series", nativeQuery = true)
+    List<Long> findSeriesIds(Long rootId);
+
+    @Query("SELECT s.recurrence.id FROM Schedule s WHERE s.id IN :scheduleIds AND s.recurrence IS NOT NULL")
+    List<Long> findRecurrenceIdsByIdIn(Collection<Long> scheduleIds);
+
+    // 같은 문장 안에서 부모가 먼저 지워져도 외래키에 걸리지 않도록 먼저 연결을 끊는다
+    @Modifying
+    @Query("UPDATE Schedule s SET s.parentSchedule = NULL WHERE s.id IN :scheduleIds")
+    void detachParentByIdIn(Collection<Long> scheduleIds);
+
+    @Modifying
+    @Query("DELETE FROM Schedule s WHERE s.id IN :scheduleIds")
+    void deleteByIdIn(Collection<Long> scheduleIds);
 }
@@ -1,17 +1,101 @@
 package com.edgescheduler.scheduleservice.service;
 
 import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.vo.TopicSendStats;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Kafka 메시지 발행
+ * <p>
+ * 발행 결과는 콜백으로 받아 토픽 별 성공/실패 수와 지연 시간을 기록하고, 주기적으로 로그에 남긴다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProducer {
 
     private final KafkaTemplate<String, KafkaEventMessage> kafkaTemplate;
+    private final Map<String, TopicMetrics> metrics = new ConcurrentHashMap<>();
+    // 직전 로그 시점의 토픽 별 성공 수, 처리량 계산용
+    private final Map<String, Long> lastSent = new ConcurrentHashMap<>();
+    private volatile long lastLoggedNanos = System.nanoTime();
 
-    public void send(String topic, KafkaEventMessage message) {
-        kafkaTemplate.send(topic, message);
+    // 같은 키의 메시지는 같은 파티션에 순서대로 들어간다
+    public CompletableFuture<SendResult<String, KafkaEventMessage>> send(String topic, String key,
+        KafkaEventMessage message) {
+        TopicMetrics topicMetrics = metrics.computeIfAbsent(topic, t -> new TopicMetrics());
+        long startNanos = System.nanoTime();
+        CompletableFuture<SendResult<String, KafkaEventMessage>> result;
+        try {
+            result = kafkaTemplate.send(topic, key, message);
+        } catch (RuntimeException e) {
+            topicMetrics.record(false, System.nanoTime() - startNanos);
+            log.warn("failed to send message to {} with key {}: {}", topic, key, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.whenComplete((sendResult, e) -> {
+            topicMetrics.record(e == null, System.nanoTime() - startNanos);
+            if (e != null) {
+                log.warn("failed to send message to {} with key {}: {}", topic, key,
+                    e.getMessage());
+            }
+        });
+    }
+
+    public Map<String, TopicSendStats> stats() {
+        Map<String, TopicSendStats> stats = new TreeMap<>();
+        metrics.forEach((topic, topicMetrics) -> stats.put(topic, topicMetrics.snapshot()));
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.producer.stats-log-interval:PT1M}")
+    public void logStats() {
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(now - lastLoggedNanos, 1) / 1e9;
+        lastLoggedNanos = now;
+        stats().forEach((topic, stats) -> {
+            long previous = lastSent.getOrDefault(topic, 0L);
+            lastSent.put(topic, stats.sent());
+            log.info("kafka producer {} - sent: {}, failed: {}, throughput: {}/s, "
+                    + "avg latency: {}ms, max latency: {}ms", topic, stats.sent(), stats.failed(),
+                String.format("%.1f", (stats.sent() - previous) / elapsedSeconds),
+                String.format("%.1f", stats.averageLatencyMillis()), stats.maxLatencyMillis());
+        });
+    }
+
+    private static class TopicMetrics {
+
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalLatencyMillis = new LongAdder();
+        private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0);
+
+        void record(boolean success, long latencyNanos) {
+            (success ? sent : failed).increment();
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+            totalLatencyMillis.add(latencyMillis);
+            maxLatencyMillis.accumulate(latencyMillis);
+        }
+
+        TopicSendStats snapshot() {
+            return TopicSendStats.builder()
+                .sent(sent.sum())
+                .failed(failed.sum())
+                .totalLatencyMillis(totalLatencyMillis.sum())
+                .maxLatencyMillis(maxLatencyMillis.get())
+                .build();
+        }
     }
 }
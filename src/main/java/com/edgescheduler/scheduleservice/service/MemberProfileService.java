@@ -0,0 +1,105 @@
+package com.edgescheduler.scheduleservice.service;
+
+import com.edgescheduler.scheduleservice.client.UserServiceClient;
+import com.edgescheduler.scheduleservice.domain.MemberProfile;
+import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
+import com.edgescheduler.scheduleservice.message.MemberProfileMessage;
+import com.edgescheduler.scheduleservice.repository.MemberProfileRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 정보 조회
+ * <p>
+ * 사용자 정보 변경 메시지로 member_profile 을 갱신해 두고 여기서 조회한다. 아직 메시지를 받지 못한 사용자만 user-service 에서 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberProfileService {
+
+    private final MemberProfileRepository memberProfileRepository;
+    private final UserServiceClient userServiceClient;
+
+    @KafkaListener(topics = "${kafka.topic.member-profile-updated:member-profile-updated}",
+        containerFactory = "memberProfileListenerContainerFactory")
+    public void listen(MemberProfileMessage message) {
+        log.info("Received member profile: {}", message.getMemberId());
+        memberProfileRepository.findById(message.getMemberId())
+            .ifPresentOrElse(
+                memberProfile -> {
+                    memberProfile.changeProfile(message.getName(), message.getProfile(),
+                        message.getDepartment(), message.getRegion(), message.getZoneId());
+                    memberProfileRepository.save(memberProfile);
+                },
+                () -> memberProfileRepository.save(
+                    MemberProfile.builder()
+                        .id(message.getMemberId())
+                        .name(message.getName())
+                        .profile(message.getProfile())
+                        .department(message.getDepartment())
+                        .region(message.getRegion())
+                        .zoneId(message.getZoneId())
+                        .build()
+                )
+            );
+        userServiceClient.evict(message.getMemberId());
+    }
+
+    public UserInfoResponse getProfile(Integer memberId) {
+        return getProfiles(List.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 저장된 사용자 이름 조회
+     * <p>
+     * 쓰기 트랜잭션 안에서 user-service 를 기다리지 않도록 저장된 정보만 본다.
+     *
+     * @param memberId 조회할 사용자
+     * @return 사용자 이름, 아직 메시지를 받지 못한 사용자는 null (발행할 때 {@link OutboxRelay} 가 채운다)
+     */
+    public String getStoredName(Integer memberId) {
+        return memberProfileRepository.findById(memberId)
+            .map(MemberProfile::getName)
+            .orElse(null);
+    }
+
+    /**
+     * 여러 사용자 정보 조회
+     *
+     * @param memberIds 조회할 사용자들
+     * @return 사용자 별 정보, 어디에서도 조회할 수 없는 사용자는 포함하지 않음
+     */
+    public Map<Integer, UserInfoResponse> getProfiles(Collection<Integer> memberIds) {
+        Map<Integer, UserInfoResponse> profiles = new HashMap<>();
+        for (MemberProfile memberProfile : memberProfileRepository.findAllById(
+            new LinkedHashSet<>(memberIds))) {
+            profiles.put(memberProfile.getId(), toUserInfoResponse(memberProfile));
+        }
+        List<Integer> missingIds = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        missingIds.removeAll(profiles.keySet());
+        if (!missingIds.isEmpty()) {
+            profiles.putAll(userServiceClient.getUsers(missingIds));
+        }
+        return profiles;
+    }
+
+    private static UserInfoResponse toUserInfoResponse(MemberProfile memberProfile) {
+        return UserInfoResponse.builder()
+            .id(memberProfile.getId())
+            .name(memberProfile.getName())
+            .profile(memberProfile.getProfile())
+            .department(memberProfile.getDepartment())
+            .region(memberProfile.getRegion())
+            .zoneId(memberProfile.getZoneId())
+            .build();
+    }
+}
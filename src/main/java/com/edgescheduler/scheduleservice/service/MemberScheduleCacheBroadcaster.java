@@ -0,0 +1,64 @@
+package com.edgescheduler.scheduleservice.service;
+
+import com.edgescheduler.scheduleservice.cache.MemberScheduleCache;
+import com.edgescheduler.scheduleservice.message.ScheduleCacheEvictMessage;
+import com.edgescheduler.scheduleservice.util.AlterTimeUtils;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기간 조회 캐시 무효화를 모든 인스턴스에 전달
+ * <p>
+ * 이 인스턴스에서 무효화된 사용자를 broadcast-interval 마다 모아 하나의 메시지로 보내고, 각 인스턴스는 서로 다른 컨슈머 그룹으로 모든
+ * 메시지를 받아 자신의 캐시를 무효화한다. 보내지 못한 무효화는 다시 보내지 않으므로 그 사용자는 expire-after-write 동안 다른 인스턴스에서
+ * 이전 결과가 보일 수 있다.
+ */
+@Slf4j
+@Component
+public class MemberScheduleCacheBroadcaster {
+
+    private final MemberScheduleCache memberScheduleCache;
+    private final KafkaProducer kafkaProducer;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${kafka.topic.schedule-cache-evicted:schedule-cache-evicted}")
+    private String topic = "schedule-cache-evicted";
+
+    public MemberScheduleCacheBroadcaster(MemberScheduleCache memberScheduleCache,
+        KafkaProducer kafkaProducer) {
+        this.memberScheduleCache = memberScheduleCache;
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.cache.broadcast-interval:PT0.2S}",
+        scheduler = "scheduleCacheBroadcastScheduler")
+    public void broadcast() {
+        List<Integer> memberIds = memberScheduleCache.drainUnsentMembers();
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        kafkaProducer.send(topic, instanceId, ScheduleCacheEvictMessage.builder()
+            .occurredAt(AlterTimeUtils.InstantToUTCLocalDateTime(Instant.now()))
+            .instanceId(instanceId)
+            .memberIds(memberIds)
+            .build());
+    }
+
+    @KafkaListener(topics = "${kafka.topic.schedule-cache-evicted:schedule-cache-evicted}",
+        groupId = "${spring.application.name}-cache-${random.uuid}",
+        containerFactory = "scheduleCacheEvictListenerContainerFactory")
+    public void listen(ScheduleCacheEvictMessage message) {
+        if (message == null || message.getMemberIds() == null
+            || instanceId.equals(message.getInstanceId())) {
+            return;
+        }
+        log.debug("Received schedule cache eviction of {} members", message.getMemberIds().size());
+        memberScheduleCache.evictLocally(message.getMemberIds());
+    }
+}
@@ -1,12 +1,18 @@
 package com.edgescheduler.scheduleservice.service;
 
+import com.edgescheduler.scheduleservice.cache.MemberScheduleCache;
+import com.edgescheduler.scheduleservice.cache.MemberTimezoneDirectory;
 import com.edgescheduler.scheduleservice.domain.MemberTimezone;
 import com.edgescheduler.scheduleservice.message.ChangeTimeZoneMessage;
 import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -14,22 +20,37 @@ import org.springframework.stereotype.Service;
 public class MemberTimezoneService {
 
     private final MemberTimezoneRepository memberTimezoneRepository;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+    private final MemberScheduleCache memberScheduleCache;
+    private final MemberTimezoneDirectory memberTimezoneDirectory;
 
-    @KafkaListener(topics = "${kafka.topic.timezone-configured}")
-    public void listen(ChangeTimeZoneMessage message) {
-        log.info("Received message: {} | {}", message.getMemberId(), message.getZoneId());
-        memberTimezoneRepository.findById(message.getMemberId())
-            .ifPresentOrElse(
-                memberTimezone -> {
-                    memberTimezone.changeZoneId(message.getZoneId());
-                    memberTimezoneRepository.save(memberTimezone);
-                },
-                () -> memberTimezoneRepository.save(
-                    MemberTimezone.builder()
-                        .id(message.getMemberId())
-                        .zoneId(message.getZoneId())
-                        .build()
-                )
-            );
+    /*
+     * 한 번에 받은 메시지를 사용자 별로 마지막 메시지만 남기고 한 문장으로 저장
+     * 사용자 서비스가 시간대를 일괄 변경하면 메시지가 몰리므로 메시지마다 조회/저장하지 않는다.
+     */
+    @KafkaListener(topics = "${kafka.topic.timezone-configured}",
+        containerFactory = "timezoneBatchListenerContainerFactory")
+    @Transactional
+    public void listen(List<ChangeTimeZoneMessage> messages) {
+        Map<Integer, MemberTimezone> memberTimezones = new LinkedHashMap<>();
+        for (ChangeTimeZoneMessage message : messages) {
+            if (message == null || message.getMemberId() == null) {
+                continue;
+            }
+            memberTimezones.put(message.getMemberId(), MemberTimezone.builder()
+                .id(message.getMemberId())
+                .zoneId(message.getZoneId())
+                .build());
+        }
+        if (memberTimezones.isEmpty()) {
+            return;
+        }
+        log.info("Received {} timezone messages for {} members", messages.size(),
+            memberTimezones.size());
+        memberTimezoneRepository.upsertAll(memberTimezones.values());
+        // 바뀐 시간대 기준으로 반복을 다시 생성하도록 미리 생성된 반복 삭제
+        scheduleOccurrenceService.invalidateMembers(memberTimezones.keySet());
+        memberScheduleCache.evictMembers(memberTimezones.keySet());
+        memberTimezones.values().forEach(memberTimezoneDirectory::put);
     }
 }
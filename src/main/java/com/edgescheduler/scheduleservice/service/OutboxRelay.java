@@ -0,0 +1,352 @@
+package com.edgescheduler.scheduleservice.service;
+
+import com.edgescheduler.scheduleservice.domain.OutboxEvent;
+import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
+import com.edgescheduler.scheduleservice.message.AttendeeProposalMessage;
+import com.edgescheduler.scheduleservice.message.AttendeeResponseMessage;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MeetingCreateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingDeleteMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.repository.OutboxEventRepository;
+import com.edgescheduler.scheduleservice.util.MessageMergeUtils;
+import com.edgescheduler.scheduleservice.vo.OutboxEventIdVO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox_event 에 쌓인 메시지를 오래된 순서대로 묶어서 Kafka 로 발행
+ * <p>
+ * 짧은 트랜잭션으로 한 묶음을 가져가 claim-timeout 동안 잡아 두고, 트랜잭션 밖에서 발행한 뒤 다시 짧은 트랜잭션으로 발행된 메시지를
+ * 삭제하고 나머지는 놓아준다. 같은 일정의 메시지는 앞의 메시지가 발행된 것을 확인한 뒤 다음 메시지를 보내고, 앞의 메시지가 실패하면 뒤의
+ * 메시지는 보내지 않는다. 발행 중에 잡아 둔 기한이 지나면 다른 인스턴스가 다시 보낼 수 있으므로 같은 메시지가 두 번 이상 발행될 수
+ * 있다.
+ * <p>
+ * 쓰기 트랜잭션에서 저장된 정보로 채우지 못한 사용자 이름은 트랜잭션 밖인 발행 직전에 묶음 단위로 조회해서 채운다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String MEETING_UPDATED = "meeting-updated";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final KafkaProducer kafkaProducer;
+    private final MemberProfileService memberProfileService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize = 200;
+
+    // 한 번 실행에서 처리하는 최대 묶음 수
+    @Value("${outbox.relay.max-batches:10}")
+    private int maxBatches = 10;
+
+    // 같은 회의의 수정 메시지를 합치는 기간, 0 이면 합치지 않는다
+    @Value("${outbox.relay.coalesce-window:0s}")
+    private Duration coalesceWindow = Duration.ZERO;
+
+    @Value("${outbox.relay.send-timeout:10s}")
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    // 가져간 묶음을 다른 인스턴스가 가져가지 못하게 잡아 두는 기간, 한 묶음을 발행하는 시간보다 길어야 한다
+    @Value("${outbox.relay.claim-timeout:60s}")
+    private Duration claimTimeout = Duration.ofSeconds(60);
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxService outboxService,
+        KafkaProducer kafkaProducer, MemberProfileService memberProfileService,
+        PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxService = outboxService;
+        this.kafkaProducer = kafkaProducer;
+        this.memberProfileService = memberProfileService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT0.5S}",
+        scheduler = "outboxRelayScheduler")
+    public void relay() {
+        for (int i = 0; i < maxBatches; i++) {
+            Claimed claimed = transactionTemplate.execute(status -> claim());
+            if (claimed == null || claimed.events().isEmpty()) {
+                return;
+            }
+            List<Long> sentIds = publish(collect(claimed.events(), Instant.now()));
+            transactionTemplate.executeWithoutResult(status -> finish(claimed.events(), sentIds));
+            if (claimed.found() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /*
+     * 발행할 묶음을 가져가서 잡아 둔다
+     * 다른 인스턴스가 잠그거나 잡아 둔 메시지보다 뒤에 쌓인 같은 일정의 메시지는 순서가 섞이지 않도록 가져가지 않는다.
+     */
+    private Claimed claim() {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = outboxEventRepository.findClaimable(now, Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return new Claimed(events, 0);
+        }
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        Set<Long> scheduleIds = new HashSet<>();
+        for (OutboxEvent event : events) {
+            scheduleIds.add(event.getScheduleId());
+        }
+        Map<Long, Long> blockedFrom = new HashMap<>();
+        for (OutboxEventIdVO other : outboxEventRepository.findOldestOtherEvents(scheduleIds, ids,
+            ids.get(ids.size() - 1))) {
+            blockedFrom.put(other.scheduleId(), other.eventId());
+        }
+        List<OutboxEvent> claimed = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            Long blockedId = blockedFrom.get(event.getScheduleId());
+            if (blockedId == null || event.getId() < blockedId) {
+                claimed.add(event);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.claim(claimed.stream().map(OutboxEvent::getId).toList(),
+                now.plus(claimTimeout));
+        }
+        return new Claimed(claimed, events.size());
+    }
+
+    // 발행된 메시지는 삭제하고, 실패했거나 미룬 메시지는 다음 실행에서 바로 가져갈 수 있게 놓아준다
+    private void finish(List<OutboxEvent> claimed, List<Long> sentIds) {
+        Set<Long> sent = new HashSet<>(sentIds);
+        List<Long> unsentIds = claimed.stream().map(OutboxEvent::getId)
+            .filter(id -> !sent.contains(id)).toList();
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(sentIds);
+        }
+        if (!unsentIds.isEmpty()) {
+            outboxEventRepository.release(unsentIds);
+        }
+    }
+
+    /*
+     * 일정 별로 한 메시지씩 동시에 보내고 모두 확인한 뒤 다음 메시지를 보낸다
+     * 발행에 실패한 일정은 이후 메시지를 보내지 않는다. 발행된 outbox 행 ID 반환
+     */
+    private List<Long> publish(List<Outgoing> outgoings) {
+        Map<Outgoing, KafkaEventMessage> messages = toMessages(outgoings);
+        fillMemberNames(messages.values());
+        Map<Long, Deque<Outgoing>> queues = new LinkedHashMap<>();
+        for (Outgoing outgoing : outgoings) {
+            queues.computeIfAbsent(outgoing.first().getScheduleId(), id -> new ArrayDeque<>())
+                .add(outgoing);
+        }
+        List<Long> sentIds = new ArrayList<>();
+        Set<Long> failedScheduleIds = new HashSet<>();
+        while (!queues.isEmpty()) {
+            List<Outgoing> round = new ArrayList<>(queues.size());
+            List<CompletableFuture<?>> results = new ArrayList<>(queues.size());
+            for (Deque<Outgoing> queue : queues.values()) {
+                Outgoing outgoing = queue.poll();
+                round.add(outgoing);
+                results.add(send(outgoing, messages.get(outgoing)));
+            }
+            for (int i = 0; i < round.size(); i++) {
+                Outgoing outgoing = round.get(i);
+                Long scheduleId = outgoing.first().getScheduleId();
+                if (!await(outgoing.first(), results.get(i))) {
+                    failedScheduleIds.add(scheduleId);
+                    queues.remove(scheduleId);
+                    continue;
+                }
+                for (OutboxEvent event : outgoing.events()) {
+                    sentIds.add(event.getId());
+                }
+                if (queues.get(scheduleId).isEmpty()) {
+                    queues.remove(scheduleId);
+                }
+            }
+        }
+        if (!failedScheduleIds.isEmpty()) {
+            log.warn("failed to relay outbox events of schedules {}", failedScheduleIds);
+        }
+        return sentIds;
+    }
+
+    /*
+     * 보낼 메시지 목록
+     * 합치기를 켜면 같은 일정의 연속된 회의 수정 메시지를 하나로 합친다. 합칠 수 있는 기간이 지나지 않은 수정 메시지가 있는 일정은 그
+     * 메시지부터 다음 실행으로 미룬다.
+     */
+    private List<Outgoing> collect(List<OutboxEvent> events, Instant now) {
+        List<Outgoing> outgoings = new ArrayList<>(events.size());
+        if (coalesceWindow.isZero()) {
+            for (OutboxEvent event : events) {
+                outgoings.add(new Outgoing(List.of(event)));
+            }
+            return outgoings;
+        }
+        Set<Long> deferredScheduleIds = new HashSet<>();
+        // 일정 별 아직 이어서 합칠 수 있는 마지막 회의 수정 메시지
+        Map<Long, Outgoing> openUpdates = new HashMap<>();
+        for (OutboxEvent event : events) {
+            Long scheduleId = event.getScheduleId();
+            if (deferredScheduleIds.contains(scheduleId)) {
+                continue;
+            }
+            if (!MEETING_UPDATED.equals(event.getTopic())) {
+                openUpdates.remove(scheduleId);
+                outgoings.add(new Outgoing(List.of(event)));
+                continue;
+            }
+            Outgoing open = openUpdates.get(scheduleId);
+            if (open != null && !event.getCreatedAt()
+                .isAfter(open.first().getCreatedAt().plus(coalesceWindow))) {
+                open.events().add(event);
+                continue;
+            }
+            if (event.getCreatedAt().isAfter(now.minus(coalesceWindow))) {
+                deferredScheduleIds.add(scheduleId);
+                continue;
+            }
+            Outgoing outgoing = new Outgoing(new ArrayList<>(List.of(event)));
+            openUpdates.put(scheduleId, outgoing);
+            outgoings.add(outgoing);
+        }
+        return outgoings;
+    }
+
+    // 보낼 메시지, 읽을 수 없는 메시지는 포함하지 않는다
+    private Map<Outgoing, KafkaEventMessage> toMessages(List<Outgoing> outgoings) {
+        Map<Outgoing, KafkaEventMessage> messages = new IdentityHashMap<>(outgoings.size());
+        for (Outgoing outgoing : outgoings) {
+            try {
+                if (outgoing.events().size() == 1) {
+                    messages.put(outgoing, outboxService.deserialize(outgoing.first()));
+                    continue;
+                }
+                List<MeetingUpdateMessage> updates = new ArrayList<>(outgoing.events().size());
+                for (OutboxEvent event : outgoing.events()) {
+                    updates.add((MeetingUpdateMessage) outboxService.deserialize(event));
+                }
+                messages.put(outgoing, MessageMergeUtils.mergeMeetingUpdates(updates));
+            } catch (RuntimeException e) {
+                log.warn("failed to read outbox event {}: {}", outgoing.first().getId(),
+                    e.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    // 이름이 비어 있는 사용자들을 한 번에 조회해서 채운다, 조회하지 못한 이름은 비워 둔 채로 발행
+    private void fillMemberNames(Collection<KafkaEventMessage> messages) {
+        Set<Integer> memberIds = new HashSet<>();
+        for (KafkaEventMessage message : messages) {
+            Integer memberId = memberIdWithoutName(message);
+            if (memberId != null) {
+                memberIds.add(memberId);
+            }
+        }
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, UserInfoResponse> profiles = memberProfileService.getProfiles(memberIds);
+        for (KafkaEventMessage message : messages) {
+            Integer memberId = memberIdWithoutName(message);
+            UserInfoResponse profile = memberId != null ? profiles.get(memberId) : null;
+            if (profile == null) {
+                continue;
+            }
+            if (message instanceof MeetingCreateMessage create) {
+                create.setOrganizerName(profile.getName());
+            } else if (message instanceof MeetingUpdateMessage update) {
+                update.setOrganizerName(profile.getName());
+            } else if (message instanceof MeetingDeleteMessage delete) {
+                delete.setOrganizerName(profile.getName());
+            } else if (message instanceof AttendeeResponseMessage response) {
+                response.setAttendeeName(profile.getName());
+            } else if (message instanceof AttendeeProposalMessage proposal) {
+                proposal.setAttendeeName(profile.getName());
+            }
+        }
+    }
+
+    // 이름을 채워야 하는 사용자, 이미 채워져 있거나 이름이 없는 메시지는 null
+    private static Integer memberIdWithoutName(KafkaEventMessage message) {
+        if (message instanceof MeetingCreateMessage create) {
+            return create.getOrganizerName() == null ? create.getOrganizerId() : null;
+        }
+        if (message instanceof MeetingUpdateMessage update) {
+            return update.getOrganizerName() == null ? update.getOrganizerId() : null;
+        }
+        if (message instanceof MeetingDeleteMessage delete) {
+            return delete.getOrganizerName() == null ? delete.getOrganizerId() : null;
+        }
+        if (message instanceof AttendeeResponseMessage response) {
+            return response.getAttendeeName() == null ? response.getAttendeeId() : null;
+        }
+        if (message instanceof AttendeeProposalMessage proposal) {
+            return proposal.getAttendeeName() == null ? proposal.getAttendeeId() : null;
+        }
+        return null;
+    }
+
+    private CompletableFuture<?> send(Outgoing outgoing, KafkaEventMessage message) {
+        OutboxEvent first = outgoing.first();
+        if (message == null) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("unreadable outbox event " + first.getId()));
+        }
+        try {
+            return kafkaProducer.send(first.getTopic(), String.valueOf(first.getScheduleId()),
+                message);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean await(OutboxEvent event, CompletableFuture<?> result) {
+        try {
+            result.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("failed to relay outbox event {} to {}: {}", event.getId(), event.getTopic(),
+                e.getMessage());
+            return false;
+        }
+    }
+
+    // 가져간 메시지와 조회한 메시지 수
+    private record Claimed(List<OutboxEvent> events, int found) {
+
+    }
+
+    // 하나의 메시지로 보낼 outbox 행들
+    private record Outgoing(List<OutboxEvent> events) {
+
+        OutboxEvent first() {
+            return events.get(0);
+        }
+    }
+}
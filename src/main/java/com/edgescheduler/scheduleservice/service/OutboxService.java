@@ -0,0 +1,54 @@
+package com.edgescheduler.scheduleservice.service;
+
+import com.edgescheduler.scheduleservice.domain.OutboxEvent;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발행할 메시지를 outbox_event 에 저장
+ * <p>
+ * 일정 변경과 같은 트랜잭션에서 저장하므로 롤백된 변경의 메시지는 발행되지 않고, 커밋된 변경의 메시지는 유실되지 않는다. 실제 발행은
+ * {@link OutboxRelay} 가 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, Long scheduleId, KafkaEventMessage message) {
+        outboxEventRepository.save(OutboxEvent.builder()
+            .scheduleId(scheduleId)
+            .topic(topic)
+            .payloadType(message.getClass().getName())
+            .payload(serialize(message))
+            .createdAt(Instant.now())
+            .build());
+    }
+
+    public KafkaEventMessage deserialize(OutboxEvent event) {
+        try {
+            Class<?> type = Class.forName(event.getPayloadType());
+            return (KafkaEventMessage) objectMapper.readValue(event.getPayload(), type);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new IllegalStateException("Error deserializing outbox event " + event.getId(), e);
+        }
+    }
+
+    private String serialize(KafkaEventMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing " + message.getClass().getName(), e);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.edgescheduler.scheduleservice.service;
 
-import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import com.edgescheduler.scheduleservice.cache.MemberTimezoneDirectory;
 import com.edgescheduler.scheduleservice.domain.ScheduleType;
 import com.edgescheduler.scheduleservice.dto.request.CalculateAvailabilityRequest;
+import com.edgescheduler.scheduleservice.dto.request.CalculateAvailabilityRequest.CalculatingMember;
 import com.edgescheduler.scheduleservice.dto.request.CalculateAvailabilityWithProposalRequest;
 import com.edgescheduler.scheduleservice.dto.response.CalculateAvailabilityResponse;
 import com.edgescheduler.scheduleservice.dto.response.CalculateAvailabilityResponse.IndividualSchedulesAndAvailability;
@@ -12,13 +13,16 @@ import com.edgescheduler.scheduleservice.dto.response.CalculateAvailabilityWithP
 import com.edgescheduler.scheduleservice.dto.response.MeetingRecommendation;
 import com.edgescheduler.scheduleservice.dto.response.MeetingRecommendation.RecommendType;
 import com.edgescheduler.scheduleservice.dto.response.ScheduleDetailReadResponse;
+import com.edgescheduler.scheduleservice.dto.response.ScheduleDetailReadResponse.ScheduleDetailAttendee;
 import com.edgescheduler.scheduleservice.dto.response.ScheduleListReadResponse.IndividualSchedule;
 import com.edgescheduler.scheduleservice.exception.ErrorCode;
-import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
 import com.edgescheduler.scheduleservice.util.AlterTimeUtils;
+import com.edgescheduler.scheduleservice.util.BitMaskUtils;
+import com.edgescheduler.scheduleservice.vo.AvailabilityMask;
 import com.edgescheduler.scheduleservice.vo.IntervalStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -34,7 +38,11 @@ import static com.edgescheduler.scheduleservice.util.TimeIntervalUtils.*;
 public class ScheduleMediateService {
 
     private final ScheduleService scheduleService;
-    private final MemberTimezoneRepository memberTimezoneRepository;
+    private final MemberTimezoneDirectory memberTimezoneDirectory;
+
+    // 추천 종류 별 추천 회의 시간 개수
+    @Value("${schedule.mediate.recommend-count:3}")
+    private int recommendCount = 3;
 
     public CalculateAvailabilityWithProposalResponse calculateAvailableMembersWithProposedSchedule(
         CalculateAvailabilityWithProposalRequest calculateAvailabilityWithProposalRequest) {
@@ -53,31 +61,29 @@ public class ScheduleMediateService {
             throw ErrorCode.INVALID_PROPOSAL.build();
         }
 
-        MemberTimezone retrieverTimezone = memberTimezoneRepository.findById(retrieverId)
-            .orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build);
+        ZoneId retrieverZoneId = memberTimezoneDirectory.getZoneId(retrieverId);
         long intervalCount = calculateIntervalCount(startTime, endTime);
-        Instant start = AlterTimeUtils.LocalDateTimeToInstant(startTime,
-            ZoneId.of(retrieverTimezone.getZoneId()));
-        Instant end = AlterTimeUtils.LocalDateTimeToInstant(endTime,
-            ZoneId.of(retrieverTimezone.getZoneId()));
+        Instant start = AlterTimeUtils.LocalDateTimeToInstant(startTime, retrieverZoneId);
+        Instant end = AlterTimeUtils.LocalDateTimeToInstant(endTime, retrieverZoneId);
 
         List<AvailableMember> availableMembers = new ArrayList<>();
         List<AvailableMember> unavailableMembers = new ArrayList<>();
 
+        // 참석자 전체의 시간대와 일정을 한 번에 조회
+        List<Integer> memberIds = schedule.getAttendeeList().stream()
+            .map(ScheduleDetailAttendee::getMemberId).toList();
+        Map<Integer, ZoneId> zoneIds = memberTimezoneDirectory.getZoneIds(memberIds);
+        Map<Integer, List<IndividualSchedule>> memberSchedules = scheduleService.getSchedulesByPeriodForMembers(
+            memberIds, start, end);
+
         schedule.getAttendeeList().forEach(attendee -> {
-            ZoneId zoneId = ZoneId.of(
-                memberTimezoneRepository.findById(attendee.getMemberId())
-                    .orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build).getZoneId());
+            ZoneId zoneId = zoneIds.get(attendee.getMemberId());
             LocalDateTime zonedStart = AlterTimeUtils.instantToLocalDateTime(start, zoneId);
             LocalDateTime zonedEnd = AlterTimeUtils.instantToLocalDateTime(end, zoneId);
-            List<IndividualSchedule> schedules = scheduleService.getScheduleByPeriod(
-                attendee.getMemberId(),
-                zonedStart,
-                zonedEnd).getScheduleList();
-            IntervalStatus[] availability = getAvailabilityWithinPeriod(
+            List<IndividualSchedule> schedules = memberSchedules.get(attendee.getMemberId());
+            AvailabilityMask mask = getAvailabilityMaskWithinPeriod((int) intervalCount, 0,
                 (int) intervalCount, schedules, zonedStart, zonedEnd);
-            if (Arrays.stream(availability)
-                .allMatch(this::isAvailable)) {
+            if (mask.isAvailableWithin(0, (int) intervalCount)) {
                 availableMembers.add(AvailableMember.builder()
                     .memberId(attendee.getMemberId())
                     .memberName(attendee.getMemberName())
@@ -123,55 +129,63 @@ public class ScheduleMediateService {
             throw ErrorCode.INVALID_INTERVAL_COUNT.build();
         }
 
-        MemberTimezone organizerTimezone = memberTimezoneRepository.findById(
-                calculateAvailabilityRequest.getOrganizerId())
-            .orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build);
+        ZoneId organizerZoneId = memberTimezoneDirectory.getZoneId(
+            calculateAvailabilityRequest.getOrganizerId());
 
         // 조정된 시작 일시와 끝 일시를 UTC 표준시로 변환한다
         Instant start = AlterTimeUtils.LocalDateTimeToInstant(
             startDateTime,
-            ZoneId.of(organizerTimezone.getZoneId()));
+            organizerZoneId);
         Instant end = AlterTimeUtils.LocalDateTimeToInstant(
             endDateTime,
-            ZoneId.of(organizerTimezone.getZoneId()));
+            organizerZoneId);
         log.info("UTC start: {}", start);
         log.info("UTC end: {}", end);
 
         Map<Integer, IndividualSchedulesAndAvailability> requiredMemberSchedulesAndAvailabilityMap = new HashMap<>();
         Map<Integer, IndividualSchedulesAndAvailability> optionalMemberSchedulesAndAvailabilityMap = new HashMap<>();
+        List<AvailabilityMask> requiredMemberMasks = new ArrayList<>();
+        List<AvailabilityMask> optionalMemberMasks = new ArrayList<>();
+
+        // 참여자 전체의 시간대와 일정을 한 번에 조회
+        List<Integer> memberIds = calculateAvailabilityRequest.getMemberList().stream()
+            .map(CalculatingMember::getMemberId).toList();
+        Map<Integer, ZoneId> zoneIds = memberTimezoneDirectory.getZoneIds(memberIds);
+        Map<Integer, List<IndividualSchedule>> memberSchedules = scheduleService.getSchedulesByPeriodForMembers(
+            memberIds, start, end);
 
+        // 일정은 한 번에 조회했으므로 참여자 별로는 마스크만 계산한다
         calculateAvailabilityRequest.getMemberList().forEach(member -> {
             log.info("--------------------");
             log.info("참여자 ID: {}", member.getMemberId());
-            ZoneId zoneId = ZoneId.of(
-                memberTimezoneRepository.findById(member.getMemberId())
-                    .orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build).getZoneId());
+            ZoneId zoneId = zoneIds.get(member.getMemberId());
             LocalDateTime zonedStart = AlterTimeUtils.instantToLocalDateTime(start, zoneId);
             LocalDateTime zonedEnd = AlterTimeUtils.instantToLocalDateTime(end, zoneId);
             log.info("zonedStart: {}", zonedStart);
             log.info("zonedEnd: {}", zonedEnd);
-            List<IndividualSchedule> schedules = scheduleService.getScheduleByPeriod(
-                member.getMemberId(),
-                zonedStart,
-                zonedEnd).getScheduleList();
+            List<IndividualSchedule> schedules = memberSchedules.get(member.getMemberId());
             log.info("schedules: {}", schedules);
-            IndividualSchedulesAndAvailability schedulesAndAvailability = getSchedulesAndAvailabilityWithinPeriod(
-                member.getMemberId(), member.getIsRequired(), intervalCount, offset, schedules,
-                zonedStart, zonedEnd);
-            log.info("scheduleEntries: {}", schedulesAndAvailability.getSchedules());
-            IntervalStatus[] expandedAvailability = new IntervalStatus[(int) expandedIntervalCount];
-            Arrays.fill(expandedAvailability, IntervalStatus.BLOCKED);
-            System.arraycopy(schedulesAndAvailability.getAvailability(), 0, expandedAvailability,
-                offset, intervalCount);
-            schedulesAndAvailability.setAvailability(expandedAvailability);
-            schedulesAndAvailability.setTzOffset(
-                zoneId.getRules().getOffset(zonedStart).toString());
+            List<ScheduleEntry> scheduleEntries = getScheduleEntries(offset, schedules, zonedStart,
+                zonedEnd);
+            log.info("scheduleEntries: {}", scheduleEntries);
+            // 확장된 구간 전체 크기의 마스크에 offset 만큼 밀어서 기록하고, 응답에서만 구간 상태 배열로 변환
+            AvailabilityMask mask = getAvailabilityMaskWithinPeriod(expandedIntervalCount, offset,
+                intervalCount, schedules, zonedStart, zonedEnd);
+            IndividualSchedulesAndAvailability schedulesAndAvailability = IndividualSchedulesAndAvailability.builder()
+                .memberId(member.getMemberId())
+                .isRequired(member.getIsRequired())
+                .schedules(scheduleEntries)
+                .availability(mask.toIntervalStatuses(offset, offset + intervalCount))
+                .tzOffset(zoneId.getRules().getOffset(zonedStart).toString())
+                .build();
             if (member.getIsRequired()) {
                 requiredMemberSchedulesAndAvailabilityMap.put(member.getMemberId(),
                     schedulesAndAvailability);
+                requiredMemberMasks.add(mask);
             } else {
                 optionalMemberSchedulesAndAvailabilityMap.put(member.getMemberId(),
                     schedulesAndAvailability);
+                optionalMemberMasks.add(mask);
             }
         });
 
@@ -180,24 +194,27 @@ public class ScheduleMediateService {
         schedulesAndAvailabilities.addAll(optionalMemberSchedulesAndAvailabilityMap.values());
 
         List<MeetingRecommendation> fastestMeetings = findFastestMeeting(
-            requiredMemberSchedulesAndAvailabilityMap,
+            requiredMemberMasks,
             calculateAvailabilityRequest.getRunningTime() / 15,
             intervalCount,
-            offset);
+            offset,
+            recommendCount);
 
         List<MeetingRecommendation> mostParticipantsMeetings = findMostParticipantsMeeting(
-            requiredMemberSchedulesAndAvailabilityMap,
-            optionalMemberSchedulesAndAvailabilityMap,
+            requiredMemberMasks,
+            optionalMemberMasks,
             calculateAvailabilityRequest.getRunningTime() / 15,
             intervalCount,
-            offset);
+            offset,
+            recommendCount);
 
         List<MeetingRecommendation> mostParticipantsInWorkingHourMeetings = findMostParticipantsInWorkingHoursMeeting(
-            requiredMemberSchedulesAndAvailabilityMap,
-            optionalMemberSchedulesAndAvailabilityMap,
+            requiredMemberMasks,
+            optionalMemberMasks,
             calculateAvailabilityRequest.getRunningTime() / 15,
             intervalCount,
-            offset);
+            offset,
+            recommendCount);
 
         return CalculateAvailabilityResponse.builder()
             .schedulesAndAvailabilities(schedulesAndAvailabilities)
@@ -209,261 +226,119 @@ public class ScheduleMediateService {
 
     /**
      * 필수 참여자가 모두 참여할 수 있는 가장 빠른 회의 시간을 찾는다.
+     * <p>
+     * 필수 참여자의 가용 마스크를 AND 한 뒤, 회의 길이만큼 연속된 구간의 시작 인덱스를 앞에서부터 recommendCount 개
+     * 고른다.
      */
-    public List<MeetingRecommendation> findFastestMeeting(
-        Map<Integer, IndividualSchedulesAndAvailability> requiredMemberAvailabilityMap,
-        int runningIntervalCount, int intervalCount, int offset) {
+    public List<MeetingRecommendation> findFastestMeeting(List<AvailabilityMask> requiredMemberMasks,
+        int runningIntervalCount, int intervalCount, int offset, int recommendCount) {
 
-        int recommendCount = 0;
+        int limit = offset + intervalCount;
+        long[] candidates = findRequiredMeetingStarts(requiredMemberMasks, runningIntervalCount,
+            intervalCount, offset);
         List<MeetingRecommendation> recommendList = new ArrayList<>();
 
-        int availableCount = 0;
-
-        for (int i = 0; i < intervalCount; i++) {
-            int offsetI = offset + i;
-            if (requiredMemberAvailabilityMap.values().stream()
-                .allMatch(sa -> isAvailable(sa.getAvailability()[offsetI]))) {
-                availableCount++;
-            } else {
-                availableCount = 0;
-            }
-
-            if (availableCount == runningIntervalCount) {
-                recommendList.add(MeetingRecommendation.builder()
-                    .recommendType(RecommendType.FASTEST)
-                    .startIndexInclusive(offsetI - runningIntervalCount + 1)
-                    .endIndexExclusive(offsetI + 1)
-                    .build());
-                recommendCount++;
-                availableCount--;
-            }
-            if (recommendCount == 3) {
-                break;
-            }
+        for (int start = BitMaskUtils.nextSetBit(candidates, offset, limit);
+            start < limit && recommendList.size() < recommendCount;
+            start = BitMaskUtils.nextSetBit(candidates, start + 1, limit)) {
+            recommendList.add(MeetingRecommendation.builder()
+                .recommendType(RecommendType.FASTEST)
+                .startIndexInclusive(start)
+                .endIndexExclusive(start + runningIntervalCount)
+                .build());
         }
 
         return recommendList;
     }
 
     /**
-     * Sliding-Window 알고리즘을 사용하여 가장 많은 참여자가 가능한 회의 시간을 찾는다.
+     * 가장 많은 참여자가 가능한 회의 시간을 찾는다.
+     * <p>
+     * 필수 참여자가 모두 가능한 시작 인덱스마다 회의 시간 내내 가능한 선택 참여자 수를 센다.
      */
     public List<MeetingRecommendation> findMostParticipantsMeeting(
-        Map<Integer, IndividualSchedulesAndAvailability> requiredMemberAvailabilityMap,
-        Map<Integer, IndividualSchedulesAndAvailability> optionalMemberAvailabilityMap,
-        int runningIntervalCount, int intervalCount, int offset) {
-
-        int[] requiredCountingWindow = new int[requiredMemberAvailabilityMap.size()];
-        int[] optionalCountingWindow = new int[optionalMemberAvailabilityMap.size()];
-
-        Queue<RecommendFactor> recommendQueue = new PriorityQueue<>();
-        List<MeetingRecommendation> recommendList = new ArrayList<>();
-
-        Map<Integer, Integer> requiredMemberIndexMap = new HashMap<>();
-        Map<Integer, Integer> optionalMemberIndexMap = new HashMap<>();
-
-        int requiredIndex = 0;
-        for (Integer key : requiredMemberAvailabilityMap.keySet()) {
-            requiredMemberIndexMap.put(key, requiredIndex++);
-        }
-
-        int optionalIndex = 0;
-        for (Integer key : optionalMemberAvailabilityMap.keySet()) {
-            optionalMemberIndexMap.put(key, optionalIndex++);
-        }
-
-        for (int i = 0; i < runningIntervalCount; i++) {
-            int offsetI = offset + i;
-            requiredMemberAvailabilityMap.forEach((id, sa) -> {
-                if (isAvailable(sa.getAvailability()[offsetI])) {
-                    requiredCountingWindow[requiredMemberIndexMap.get(id)]++;
-                }
-            });
-            optionalMemberAvailabilityMap.forEach((id, sa) -> {
-                if (isAvailable(sa.getAvailability()[offsetI])) {
-                    optionalCountingWindow[optionalMemberIndexMap.get(id)]++;
-                }
-            });
-
-        }
-        if (allRequiredParticipantsAvailable(runningIntervalCount, requiredCountingWindow)) {
-            int participantsCount = (int) (requiredMemberAvailabilityMap.size()
-                    + Arrays.stream(optionalCountingWindow)
-                    .filter(count -> count == runningIntervalCount).count());
-            recommendQueue.add(new RecommendFactor(offset, participantsCount));
-        }
-
-        for (int i = runningIntervalCount; i < intervalCount; i++) {
-            int offsetI = offset + i;
-            requiredMemberAvailabilityMap.forEach((id, sa) -> {
-                if (isAvailable(sa.getAvailability()[offsetI - runningIntervalCount])) {
-                    requiredCountingWindow[requiredMemberIndexMap.get(id)]--;
-                }
-                if (isAvailable(sa.getAvailability()[offsetI])) {
-                    requiredCountingWindow[requiredMemberIndexMap.get(id)]++;
-                }
-            });
-            optionalMemberAvailabilityMap.forEach((id, sa) -> {
-                if (isAvailable(sa.getAvailability()[offsetI - runningIntervalCount])) {
-                    optionalCountingWindow[optionalMemberIndexMap.get(id)]--;
-                }
-                if (isAvailable(sa.getAvailability()[offsetI])) {
-                    optionalCountingWindow[optionalMemberIndexMap.get(id)]++;
-                }
-            });
-
-            int optionalCount = (int) Arrays.stream(optionalCountingWindow)
-                .filter(count -> count == runningIntervalCount).count();
-
-            if (allRequiredParticipantsAvailable(runningIntervalCount, requiredCountingWindow)) {
-                int participantsCount = requiredMemberAvailabilityMap.size() + optionalCount;
-                if (recommendQueue.size() > 3) {
-                    recommendQueue.poll();
-                }
-                recommendQueue.add(
-                    new RecommendFactor(offsetI - runningIntervalCount + 1, participantsCount));
-            }
-        }
-
-        while (recommendQueue.size() > 3) {
-            recommendQueue.poll();
-        }
-
-        for (int i = 0; i < 3 && !recommendQueue.isEmpty(); i++) {
-            RecommendFactor rf = recommendQueue.poll();
-            recommendList.add(MeetingRecommendation.builder()
-                .recommendType(RecommendType.MOST_PARTICIPANTS)
-                .startIndexInclusive(rf.startIndex())
-                .endIndexExclusive(rf.startIndex() + runningIntervalCount)
-                .build());
-        }
-
-        Collections.reverse(recommendList);
-        return recommendList;
+        List<AvailabilityMask> requiredMemberMasks, List<AvailabilityMask> optionalMemberMasks,
+        int runningIntervalCount, int intervalCount, int offset, int recommendCount) {
+
+        long[] candidates = findRequiredMeetingStarts(requiredMemberMasks, runningIntervalCount,
+            intervalCount, offset);
+        List<long[]> optionalStarts = optionalMemberMasks.stream()
+            .map(mask -> findMeetingStarts(mask.available(), runningIntervalCount, intervalCount,
+                offset))
+            .toList();
+
+        int limit = offset + intervalCount;
+        return findTopRecommendations(candidates, limit,
+            countParticipants(optionalStarts, requiredMemberMasks.size(), limit),
+            runningIntervalCount, recommendCount, RecommendType.MOST_PARTICIPANTS);
     }
 
     /**
-     * Sliding-Window 알고리즘을 사용하여 가장 많은 참여자가 가능한 회의 시간을 찾는다.
+     * 근무 시간 내에 가장 많은 참여자가 가능한 회의 시간을 찾는다.
+     * <p>
+     * 필수 참여자는 모두 참여 가능해야 하고, 참여자 수는 회의 시간 내내 근무 시간인 필수/선택 참여자를 센다.
      */
     public List<MeetingRecommendation> findMostParticipantsInWorkingHoursMeeting(
-        Map<Integer, IndividualSchedulesAndAvailability> requiredMemberAvailabilityMap,
-        Map<Integer, IndividualSchedulesAndAvailability> optionalMemberAvailabilityMap,
-        int runningIntervalCount, int intervalCount, int offset) {
-
-        Queue<RecommendFactor> recommendQueue = new PriorityQueue<>();
-        List<MeetingRecommendation> recommendList = new ArrayList<>();
-        // 필참 인원은 모두 참여 가능해야 하므로 참여 가능 인원 별도로 카운트
-        int[] requiredAvailableCountingWindow = new int[requiredMemberAvailabilityMap.size()];
-        int[] requiredCountingWindow = new int[requiredMemberAvailabilityMap.size()];
-        int[] optionalCountingWindow = new int[optionalMemberAvailabilityMap.size()];
-
-        Map<Integer, Integer> requiredMemberIndexMap = new HashMap<>();
-        Map<Integer, Integer> optionalMemberIndexMap = new HashMap<>();
-
-        int requiredIndex = 0;
-        for (Integer key : requiredMemberAvailabilityMap.keySet()) {
-            requiredMemberIndexMap.put(key, requiredIndex++);
-        }
-
-        int optionalIndex = 0;
-        for (Integer key : optionalMemberAvailabilityMap.keySet()) {
-            optionalMemberIndexMap.put(key, optionalIndex++);
-        }
-
-        for (int i = 0; i < runningIntervalCount; i++) {
-            int offsetI = offset + i;
-            requiredMemberAvailabilityMap.forEach((id, sa) -> {
-                if (isAvailable(sa.getAvailability()[offsetI])) {
-                    requiredAvailableCountingWindow[requiredMemberIndexMap.get(id)]++;
-                }
-                if (sa.getAvailability()[offsetI] == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
-                    requiredCountingWindow[requiredMemberIndexMap.get(id)]++;
-                }
-            });
-            optionalMemberAvailabilityMap.forEach((id, sa) -> {
-                if (sa.getAvailability()[offsetI] == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
-                    optionalCountingWindow[optionalMemberIndexMap.get(id)]++;
-                }
-            });
-
+        List<AvailabilityMask> requiredMemberMasks, List<AvailabilityMask> optionalMemberMasks,
+        int runningIntervalCount, int intervalCount, int offset, int recommendCount) {
+
+        long[] candidates = findRequiredMeetingStarts(requiredMemberMasks, runningIntervalCount,
+            intervalCount, offset);
+        List<long[]> workingHoursStarts = new ArrayList<>();
+        for (AvailabilityMask mask : requiredMemberMasks) {
+            workingHoursStarts.add(findMeetingStarts(mask.workingHours(), runningIntervalCount,
+                intervalCount, offset));
         }
-        if (allRequiredParticipantsAvailable(runningIntervalCount,
-                requiredAvailableCountingWindow)) {
-            int participantsInWorkingHourCount =
-                    (int) (Arrays.stream(requiredCountingWindow)
-                            .filter(count -> count == runningIntervalCount).count()
-                            + Arrays.stream(optionalCountingWindow)
-                            .filter(count -> count == runningIntervalCount).count());
-            recommendQueue.add(new RecommendFactor(offset, participantsInWorkingHourCount));
+        for (AvailabilityMask mask : optionalMemberMasks) {
+            workingHoursStarts.add(findMeetingStarts(mask.workingHours(), runningIntervalCount,
+                intervalCount, offset));
         }
 
-        for (int i = runningIntervalCount; i < intervalCount; i++) {
-            int offsetI = offset + i;
-            requiredMemberAvailabilityMap.forEach((id, sa) -> {
-                if (isAvailable(sa.getAvailability()[offsetI - runningIntervalCount])) {
-                    requiredAvailableCountingWindow[requiredMemberIndexMap.get(id)]--;
-                }
-                if (isAvailable(sa.getAvailability()[offsetI])) {
-                    requiredAvailableCountingWindow[requiredMemberIndexMap.get(id)]++;
-                }
-                if (sa.getAvailability()[offsetI - runningIntervalCount]
-                    == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
-                    requiredCountingWindow[requiredMemberIndexMap.get(id)]--;
-                }
-                if (sa.getAvailability()[offsetI] == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
-                    requiredCountingWindow[requiredMemberIndexMap.get(id)]++;
-                }
-            });
-            optionalMemberAvailabilityMap.forEach((id, sa) -> {
-                if (sa.getAvailability()[offsetI - runningIntervalCount]
-                    == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
-                    optionalCountingWindow[optionalMemberIndexMap.get(id)]--;
-                }
-                if (sa.getAvailability()[offsetI] == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
-                    optionalCountingWindow[optionalMemberIndexMap.get(id)]++;
-                }
-            });
-
-            int requiredMemberCount = (int) Arrays.stream(requiredCountingWindow)
-                .filter(count -> count == runningIntervalCount).count();
-            int optionalMemberCount = (int) Arrays.stream(optionalCountingWindow)
-                .filter(count -> count == runningIntervalCount).count();
-
-            if (allRequiredParticipantsAvailable(runningIntervalCount,
-                requiredAvailableCountingWindow)) {
-                int participantsInWorkingHourCount =
-                    requiredMemberCount + optionalMemberCount;
-                if (recommendQueue.size() > 3) {
-                    recommendQueue.poll();
-                }
-                recommendQueue.add(
-                    new RecommendFactor(offsetI - runningIntervalCount + 1,
-                        participantsInWorkingHourCount));
-            }
-        }
-
-        while (recommendQueue.size() > 3) {
-            recommendQueue.poll();
-        }
-
-        for (int i = 0; i < 3 && !recommendQueue.isEmpty(); i++) {
-            RecommendFactor rf = recommendQueue.poll();
-            recommendList.add(MeetingRecommendation.builder()
-                .recommendType(RecommendType.MOST_PARTICIPANTS_IN_WORKING_HOUR)
-                .startIndexInclusive(rf.startIndex())
-                .endIndexExclusive(rf.startIndex() + runningIntervalCount)
-                .build());
-        }
-
-        Collections.reverse(recommendList);
-        return recommendList;
+        int limit = offset + intervalCount;
+        return findTopRecommendations(candidates, limit,
+            countParticipants(workingHoursStarts, 0, limit),
+            runningIntervalCount, recommendCount, RecommendType.MOST_PARTICIPANTS_IN_WORKING_HOUR);
     }
 
     public IntervalStatus[] getAvailabilityWithinPeriod(int intervalCount,
         List<IndividualSchedule> schedules,
         LocalDateTime zonedStart, LocalDateTime zonedEnd) {
-        IntervalStatus[] availability = new IntervalStatus[intervalCount];
-        Arrays.fill(availability, IntervalStatus.AVAILABLE);
+        return getAvailabilityMaskWithinPeriod(intervalCount, 0, intervalCount, schedules,
+            zonedStart, zonedEnd).toIntervalStatuses(0, intervalCount);
+    }
+
+    public IndividualSchedulesAndAvailability getSchedulesAndAvailabilityWithinPeriod(
+        Integer memberId,
+        Boolean isRequired,
+        int intervalCount,
+        int offset,
+        List<IndividualSchedule> schedules,
+        LocalDateTime zonedStart, LocalDateTime zonedEnd) {
+        return IndividualSchedulesAndAvailability.builder()
+            .memberId(memberId)
+            .isRequired(isRequired)
+            .schedules(getScheduleEntries(offset, schedules, zonedStart, zonedEnd))
+            .availability(getAvailabilityWithinPeriod(intervalCount, schedules, zonedStart,
+                zonedEnd))
+            .build();
+    }
+
+    /**
+     * 조회 기간의 가용 마스크 계산
+     *
+     * @param size          마스크 크기
+     * @param offset        조회 기간의 첫 구간이 마스크에서 위치하는 인덱스
+     * @param intervalCount 조회 기간의 구간 개수
+     * @param schedules     조회 기간의 일정
+     * @param zonedStart    조회 시작 시간 (조회하는 사람 기준)
+     * @param zonedEnd      조회 종료 시간 (조회하는 사람 기준)
+     * @return [offset, offset + intervalCount) 밖의 구간은 참여 불가로 표시된 마스크
+     */
+    public AvailabilityMask getAvailabilityMaskWithinPeriod(int size, int offset,
+        int intervalCount, List<IndividualSchedule> schedules,
+        LocalDateTime zonedStart, LocalDateTime zonedEnd) {
+        long[] busy = BitMaskUtils.create(size);
+        long[] working = BitMaskUtils.create(size);
         for (IndividualSchedule schedule : schedules) {
             int startAffectedIndex = calculateAffectedIndex(
                 calculateIntervalIndexWithinPeriod(
@@ -475,27 +350,22 @@ public class ScheduleMediateService {
                     zonedStart, zonedEnd,
                     schedule.getEndDatetime()),
                 schedule.getType(), false);
-            for (int i = startAffectedIndex; i <= endAffectedIndex; i++) {
-                if (schedule.getType() != ScheduleType.WORKING) {
-                    availability[i] = IntervalStatus.UNAVAILABLE;
-                } else if (availability[i] == IntervalStatus.AVAILABLE) {
-                    availability[i] = IntervalStatus.AVAILABLE_IN_WORKING_HOURS;
-                }
-            }
+            // 조회 기간을 벗어나는 구간은 무시
+            int from = offset + Math.max(startAffectedIndex, 0);
+            int to = offset + Math.min(endAffectedIndex + 1, intervalCount);
+            BitMaskUtils.setRange(schedule.getType() != ScheduleType.WORKING ? busy : working,
+                from, to);
         }
-        return availability;
+        long[] available = BitMaskUtils.create(size);
+        BitMaskUtils.setRange(available, offset, offset + intervalCount);
+        BitMaskUtils.andNot(available, busy);
+        BitMaskUtils.and(working, available);
+        return new AvailabilityMask(size, available, working);
     }
 
-    public IndividualSchedulesAndAvailability getSchedulesAndAvailabilityWithinPeriod(
-        Integer memberId,
-        Boolean isRequired,
-        int intervalCount,
-        int offset,
-        List<IndividualSchedule> schedules,
+    private List<ScheduleEntry> getScheduleEntries(int offset, List<IndividualSchedule> schedules,
         LocalDateTime zonedStart, LocalDateTime zonedEnd) {
         List<ScheduleEntry> scheduleEntries = new ArrayList<>();
-        IntervalStatus[] availability = new IntervalStatus[intervalCount];
-        Arrays.fill(availability, IntervalStatus.AVAILABLE);
         for (IndividualSchedule schedule : schedules) {
             int startAffectedIndex = calculateAffectedIndex(
                 calculateIntervalIndexWithinPeriod(
@@ -515,26 +385,82 @@ public class ScheduleMediateService {
                     .type(schedule.getType())
                     .isPublic(schedule.getIsPublic())
                     .build());
-            for (int i = startAffectedIndex; i <= endAffectedIndex; i++) {
-                if (schedule.getType() != ScheduleType.WORKING) {
-                    availability[i] = IntervalStatus.UNAVAILABLE;
-                } else if (availability[i] == IntervalStatus.AVAILABLE) {
-                    availability[i] = IntervalStatus.AVAILABLE_IN_WORKING_HOURS;
-                }
+        }
+        return scheduleEntries;
+    }
+
+    // 필수 참여자가 모두 회의 시간 내내 참여 가능한 시작 인덱스
+    private static long[] findRequiredMeetingStarts(List<AvailabilityMask> requiredMemberMasks,
+        int runningIntervalCount, int intervalCount, int offset) {
+        long[] allAvailable = BitMaskUtils.create(offset + intervalCount);
+        BitMaskUtils.setRange(allAvailable, offset, offset + intervalCount);
+        for (AvailabilityMask mask : requiredMemberMasks) {
+            BitMaskUtils.and(allAvailable, mask.available());
+        }
+        return BitMaskUtils.windowStarts(allAvailable, offset + intervalCount,
+            runningIntervalCount);
+    }
+
+    // 조회 기간 안에서 회의 시간 내내 비트가 켜져 있는 시작 인덱스
+    private static long[] findMeetingStarts(long[] bits, int runningIntervalCount,
+        int intervalCount, int offset) {
+        long[] withinPeriod = BitMaskUtils.create(offset + intervalCount);
+        BitMaskUtils.setRange(withinPeriod, offset, offset + intervalCount);
+        BitMaskUtils.and(withinPeriod, bits);
+        return BitMaskUtils.windowStarts(withinPeriod, offset + intervalCount,
+            runningIntervalCount);
+    }
+
+    /*
+     * 시작 인덱스 별로 회의 시간 내내 비트가 켜져 있는 사람 수
+     * 사람마다 시작 인덱스 마스크의 연속 구간 경계에서만 카운터를 바꾸고 누적합으로 세므로,
+     * 비용은 (구간 수 + 사람 별 연속 구간 수의 합)에 비례한다.
+     */
+    private static int[] countParticipants(List<long[]> starts, int base, int limit) {
+        int[] counts = new int[limit + 1];
+        for (long[] bits : starts) {
+            int runStart = BitMaskUtils.nextSetBit(bits, 0, limit);
+            while (runStart < limit) {
+                int runEnd = BitMaskUtils.nextClearBit(bits, runStart, limit);
+                counts[runStart]++;
+                counts[runEnd]--;
+                runStart = BitMaskUtils.nextSetBit(bits, runEnd, limit);
             }
         }
-        return IndividualSchedulesAndAvailability.builder()
-            .memberId(memberId)
-            .isRequired(isRequired)
-            .schedules(scheduleEntries)
-            .availability(availability)
-            .build();
+        int running = base;
+        for (int i = 0; i < limit; i++) {
+            running += counts[i];
+            counts[i] = running;
+        }
+        return counts;
     }
 
-    private static boolean allRequiredParticipantsAvailable(int runningIntervalCount,
-        int[] requiredCountingWindow) {
-        return Arrays.stream(requiredCountingWindow)
-            .allMatch(count -> count == runningIntervalCount);
+    // 후보 시작 인덱스 중 참여자 수가 많고 빠른 순으로 recommendCount 개
+    private static List<MeetingRecommendation> findTopRecommendations(long[] candidates,
+        int limit, int[] participantsCounts, int runningIntervalCount, int recommendCount,
+        RecommendType recommendType) {
+
+        Queue<RecommendFactor> recommendQueue = new PriorityQueue<>();
+        for (int start = BitMaskUtils.nextSetBit(candidates, 0, limit); start < limit;
+            start = BitMaskUtils.nextSetBit(candidates, start + 1, limit)) {
+            recommendQueue.add(new RecommendFactor(start, participantsCounts[start]));
+            if (recommendQueue.size() > recommendCount) {
+                recommendQueue.poll();
+            }
+        }
+
+        List<MeetingRecommendation> recommendList = new ArrayList<>();
+        while (!recommendQueue.isEmpty()) {
+            RecommendFactor rf = recommendQueue.poll();
+            recommendList.add(MeetingRecommendation.builder()
+                .recommendType(recommendType)
+                .startIndexInclusive(rf.startIndex())
+                .endIndexExclusive(rf.startIndex() + runningIntervalCount)
+                .build());
+        }
+
+        Collections.reverse(recommendList);
+        return recommendList;
     }
 
     private int calculateAffectedIndex(IntervalIndex intervalIndex, ScheduleType type,
@@ -549,11 +475,6 @@ public class ScheduleMediateService {
         return affectedIndex;
     }
 
-    private boolean isAvailable(IntervalStatus status) {
-        return status == IntervalStatus.AVAILABLE
-            || status == IntervalStatus.AVAILABLE_IN_WORKING_HOURS;
-    }
-
         private record RecommendFactor(int startIndex, int count) implements Comparable<RecommendFactor> {
 
             @Override
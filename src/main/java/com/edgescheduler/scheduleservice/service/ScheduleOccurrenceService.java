@@ -0,0 +1,223 @@
+package com.edgescheduler.scheduleservice.service;
+
+import com.edgescheduler.scheduleservice.cache.MemberTimezoneDirectory;
+import com.edgescheduler.scheduleservice.domain.Recurrence;
+import com.edgescheduler.scheduleservice.domain.Schedule;
+import com.edgescheduler.scheduleservice.domain.ScheduleOccurrence;
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.repository.RecurrenceRepository;
+import com.edgescheduler.scheduleservice.repository.ScheduleOccurrenceRepository;
+import com.edgescheduler.scheduleservice.repository.ScheduleRepository;
+import com.edgescheduler.scheduleservice.util.AlterTimeUtils;
+import com.edgescheduler.scheduleservice.util.RecurrenceUtils;
+import com.edgescheduler.scheduleservice.vo.OccurrenceVO;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회의 외 반복 일정의 반복을 schedule_occurrence 에 미리 생성해 두고 관리
+ * <p>
+ * 반복 규칙이 바뀌는 쓰기 시점에 해당 반복 일정의 반복을 다시 생성하고, 주기적으로 생성 기한(horizon)을 늘린다. 선택 수정/삭제된 반복은
+ * 여기에 반영하지 않고 조회 시점에 제외한다.
+ * <p>
+ * 여러 인스턴스가 동시에 생성 기한을 늘려도 각자 잠근 반복 일정만 늘리고, 같은 반복은 유일 키로 한 번만 저장된다. 생성 범위는 반복 규칙의
+ * 버전으로 보호하므로 기한 연장과 쓰기 시점의 재생성이 겹치면 나중에 커밋하는 쪽이 실패한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleOccurrenceService {
+
+    // 서머타임으로 반복 길이가 달라지는 경우를 위한 여유
+    private static final Duration DST_MARGIN = Duration.ofHours(1);
+
+    private final ScheduleRepository scheduleRepository;
+    private final RecurrenceRepository recurrenceRepository;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final MemberTimezoneDirectory memberTimezoneDirectory;
+
+    @Value("${schedule.occurrence.horizon-months:12}")
+    private long horizonMonths;
+
+    @Value("${schedule.occurrence.past-months:1}")
+    private long pastMonths;
+
+    @Value("${schedule.occurrence.extend-batch-size:500}")
+    private int extendBatchSize;
+
+    // 생성 기한이 horizon 까지 이만큼보다 많이 남았으면 늘리지 않는다
+    @Value("${schedule.occurrence.extend-margin:7d}")
+    private Duration extendMargin;
+
+    // 다음 실행에서 이어서 볼 반복 일정 ID, 끝까지 보면 처음부터 다시 본다
+    private volatile long extendCursor;
+
+    /*
+     * 반복 일정의 반복을 처음부터 다시 생성
+     * 주최자의 시간대를 아직 모르면 생성하지 않고, 조회 시점에 반복을 계산하도록 생성 범위를 비운다.
+     */
+    @Transactional
+    public void materialize(Schedule schedule) {
+        if (!isMaterializable(schedule)) {
+            return;
+        }
+        Recurrence recurrence = schedule.getRecurrence();
+        scheduleOccurrenceRepository.deleteByScheduleIdIn(List.of(schedule.getId()));
+        Optional<ZoneId> zoneId = memberTimezoneDirectory.findZoneId(schedule.getOrganizerId());
+        if (zoneId.isEmpty()) {
+            recurrence.markMaterialized(null, null);
+            return;
+        }
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        Instant from = now.minusMonths(pastMonths).toInstant();
+        Instant until = now.plusMonths(horizonMonths).toInstant();
+        saveOccurrences(schedule, from, until, zoneId.get());
+        recurrence.markMaterialized(from, until);
+    }
+
+    @Transactional
+    public void remove(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        scheduleOccurrenceRepository.deleteByScheduleIdIn(scheduleIds);
+    }
+
+    // 시간대가 바뀌면 반복의 실제 시간이 달라지므로 해당 사용자들의 반복을 모두 버린다
+    @Transactional
+    public void invalidateMembers(Collection<Integer> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        scheduleOccurrenceRepository.deleteByMemberIdIn(memberIds);
+        recurrenceRepository.clearMaterializedByOrganizerIdIn(memberIds);
+    }
+
+    /*
+     * 생성 기한을 늘리고, 아직 생성되지 않은 반복 일정을 채운다
+     * 한 번에 extend-batch-size 만큼 ID 순으로 이어서 보므로 앞쪽 반복 일정만 반복해서 고르지 않는다.
+     */
+    @Scheduled(cron = "${schedule.occurrence.extend-cron:0 0 * * * *}")
+    @Transactional
+    public void extendHorizon() {
+        Instant horizon = ZonedDateTime.now(ZoneOffset.UTC).plusMonths(horizonMonths)
+            .toInstant();
+        List<Schedule> schedules = scheduleRepository.findRecurrenceSchedulesToMaterialize(
+            extendCursor, horizon.minus(extendMargin), Limit.of(extendBatchSize));
+        extendCursor = schedules.size() < extendBatchSize ? 0
+            : schedules.get(schedules.size() - 1).getId();
+        Map<Integer, Optional<ZoneId>> zoneIds = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            Recurrence recurrence = schedule.getRecurrence();
+            if (recurrence.getMaterializedUntil() == null) {
+                materialize(schedule);
+                continue;
+            }
+            Optional<ZoneId> zoneId = zoneIds.computeIfAbsent(schedule.getOrganizerId(),
+                memberTimezoneDirectory::findZoneId);
+            if (zoneId.isEmpty()) {
+                continue;
+            }
+            saveOccurrences(schedule, recurrence.getMaterializedUntil(), horizon, zoneId.get());
+            recurrence.markMaterialized(recurrence.getMaterializedFrom(), horizon);
+        }
+        log.info("extended occurrences of {} schedules until {}", schedules.size(), horizon);
+    }
+
+    /**
+     * 미리 생성된 반복이 조회 기간을 모두 포함하는 반복 일정의 반복 조회
+     *
+     * @param memberIds 조회하는 사람들 (반복 일정의 주최자)
+     * @param schedules 조회 기간에 걸치는 회의 외 일정
+     * @param start     조회 시작 시간
+     * @param end       조회 종료 시간
+     * @param zoneIds   조회하는 사람 별 시간대
+     * @return 반복 일정 ID 별 반복 목록, 미리 생성된 반복으로 조회할 수 없는 반복 일정은 포함하지 않음
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<OccurrenceVO>> findMaterializedOccurrences(
+        Collection<Integer> memberIds, List<Schedule> schedules, Instant start, Instant end,
+        Map<Integer, ZoneId> zoneIds) {
+        Map<Long, List<OccurrenceVO>> occurrences = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            if (isMaterializable(schedule) && isCovered(schedule, start, end)) {
+                occurrences.put(schedule.getId(), new ArrayList<>());
+            }
+        }
+        if (occurrences.isEmpty()) {
+            return occurrences;
+        }
+        for (ScheduleOccurrence occurrence : scheduleOccurrenceRepository
+            .findByMemberIdsWithinPeriod(memberIds, start, end)) {
+            List<OccurrenceVO> scheduleOccurrences = occurrences.get(occurrence.getScheduleId());
+            if (scheduleOccurrences == null) {
+                continue;
+            }
+            ZoneId zoneId = zoneIds.get(occurrence.getMemberId());
+            scheduleOccurrences.add(OccurrenceVO.builder()
+                .startDatetime(
+                    AlterTimeUtils.instantToLocalDateTime(occurrence.getStartDatetime(), zoneId))
+                .endDatetime(
+                    AlterTimeUtils.instantToLocalDateTime(occurrence.getEndDatetime(), zoneId))
+                .startInstant(occurrence.getStartDatetime())
+                .endInstant(occurrence.getEndDatetime())
+                .build());
+        }
+        return occurrences;
+    }
+
+    // 시작 시간이 [from, until) 인 반복 저장
+    private void saveOccurrences(Schedule schedule, Instant from, Instant until, ZoneId zoneId) {
+        List<ScheduleOccurrence> occurrences = new ArrayList<>();
+        for (OccurrenceVO occurrence : RecurrenceUtils.expandWithinPeriod(
+            schedule.getRecurrence(), schedule.getStartDatetime(), schedule.getEndDatetime(),
+            from, until, zoneId)) {
+            // 기간 이전에 시작해서 걸치는 반복은 이미 저장되어 있다
+            if (occurrence.startInstant().isBefore(from)) {
+                continue;
+            }
+            occurrences.add(ScheduleOccurrence.builder()
+                .scheduleId(schedule.getId())
+                .memberId(schedule.getOrganizerId())
+                .type(schedule.getType())
+                .startDatetime(occurrence.startInstant())
+                .endDatetime(occurrence.endInstant())
+                .build());
+        }
+        scheduleOccurrenceRepository.saveAll(occurrences);
+    }
+
+    // 조회 기간과 겹치는 반복이 모두 생성되어 있는지 확인
+    private boolean isCovered(Schedule schedule, Instant start, Instant end) {
+        Recurrence recurrence = schedule.getRecurrence();
+        if (recurrence.getMaterializedFrom() == null || recurrence.getMaterializedUntil() == null) {
+            return false;
+        }
+        // 조회 시작 전에 시작해서 걸치는 반복까지 생성 범위에 있어야 한다
+        Duration duration = Duration.between(schedule.getStartDatetime(),
+            schedule.getEndDatetime()).plus(DST_MARGIN);
+        return !recurrence.getMaterializedFrom().isAfter(start.minus(duration))
+            && !recurrence.getMaterializedUntil().isBefore(end);
+    }
+
+    private boolean isMaterializable(Schedule schedule) {
+        return schedule.getRecurrence() != null && !schedule.getIsDeleted()
+            && !schedule.getType().equals(ScheduleType.MEETING);
+    }
+}
@@ -7,7 +7,12 @@ import com.edgescheduler.scheduleservice.dto.request.ScheduleDeleteRequest;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleUpdateRequest;
 import com.edgescheduler.scheduleservice.dto.response.*;
 
+import com.edgescheduler.scheduleservice.dto.response.ScheduleListReadResponse.IndividualSchedule;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface ScheduleService {
 
@@ -20,6 +25,9 @@ public interface ScheduleService {
     ScheduleListReadResponse getScheduleByPeriod(Integer memberId, LocalDateTime start,
         LocalDateTime end);
 
+    Map<Integer, List<IndividualSchedule>> getSchedulesByPeriodForMembers(
+        Collection<Integer> memberIds, Instant start, Instant end);
+
     ScheduleUpdateResponse updateSchedule(
         Integer memberId,
         Long scheduleId,
@@ -3,7 +3,9 @@ package com.edgescheduler.scheduleservice.service;
 import static com.edgescheduler.scheduleservice.util.AlterTimeUtils.LocalDateTimeToUTCLocalDateTime;
 import static com.edgescheduler.scheduleservice.util.TimeIntervalUtils.getMinuteDuration;
 
-import com.edgescheduler.scheduleservice.client.UserServiceClient;
+import com.edgescheduler.scheduleservice.cache.MemberScheduleCache;
+import com.edgescheduler.scheduleservice.cache.MemberTimezoneDirectory;
+import com.edgescheduler.scheduleservice.config.datasource.PrimaryReader;
 import com.edgescheduler.scheduleservice.domain.Attendee;
 import com.edgescheduler.scheduleservice.domain.AttendeeStatus;
 import com.edgescheduler.scheduleservice.domain.Proposal;
@@ -13,7 +15,6 @@ import com.edgescheduler.scheduleservice.domain.RecurrenceFreqType;
 import com.edgescheduler.scheduleservice.domain.Schedule;
 import com.edgescheduler.scheduleservice.domain.ScheduleType;
 import com.edgescheduler.scheduleservice.dto.request.DecideAttendanceRequest;
-import com.edgescheduler.scheduleservice.dto.request.DeletedSchedule;
 import com.edgescheduler.scheduleservice.dto.request.ResponseScheduleProposal;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest.ScheduleAttendee;
@@ -21,7 +22,6 @@ import com.edgescheduler.scheduleservice.dto.request.ScheduleDeleteRequest;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleDeleteRequest.ScheduleDeleteRange;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleUpdateRequest;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleUpdateRequest.RecurrenceDetails;
-import com.edgescheduler.scheduleservice.dto.request.UpdatedSchedule;
 import com.edgescheduler.scheduleservice.dto.response.ScheduleCreateResponse;
 import com.edgescheduler.scheduleservice.dto.response.ScheduleDetailReadResponse;
 import com.edgescheduler.scheduleservice.dto.response.ScheduleDetailReadResponse.ScheduleDetailAttendee;
@@ -35,27 +35,35 @@ import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
 import com.edgescheduler.scheduleservice.exception.ErrorCode;
 import com.edgescheduler.scheduleservice.message.AttendeeProposalMessage;
 import com.edgescheduler.scheduleservice.message.AttendeeResponseMessage;
-import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
 import com.edgescheduler.scheduleservice.message.MeetingCreateMessage;
 import com.edgescheduler.scheduleservice.message.MeetingDeleteMessage;
 import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
 import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
 import com.edgescheduler.scheduleservice.message.Response;
 import com.edgescheduler.scheduleservice.repository.AttendeeRepository;
-import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
 import com.edgescheduler.scheduleservice.repository.ProposalRepository;
 import com.edgescheduler.scheduleservice.repository.RecurrenceRepository;
 import com.edgescheduler.scheduleservice.repository.ScheduleRepository;
 import com.edgescheduler.scheduleservice.util.AlterTimeUtils;
-import java.time.DayOfWeek;
+import com.edgescheduler.scheduleservice.util.RecurrenceUtils;
+import com.edgescheduler.scheduleservice.vo.AttendingMeetingVO;
+import com.edgescheduler.scheduleservice.vo.OccurrenceVO;
+import com.edgescheduler.scheduleservice.vo.PeriodScheduleVO;
+import com.edgescheduler.scheduleservice.vo.RecurrenceExceptionKey;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -67,12 +75,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class SimpleScheduleService implements ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
-    private final MemberTimezoneRepository memberTimezoneRepository;
+    private final MemberTimezoneDirectory memberTimezoneDirectory;
     private final AttendeeRepository attendeeRepository;
     private final RecurrenceRepository recurrenceRepository;
     private final ProposalRepository proposalRepository;
-    private final KafkaProducer kafkaProducer;
-    private final UserServiceClient userServiceClient;
+    private final OutboxService outboxService;
+    private final MemberProfileService memberProfileService;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+    private final MemberScheduleCache memberScheduleCache;
+    private final PrimaryReader primaryReader;
 
     @Override
     @Transactional
@@ -91,8 +102,7 @@ public class SimpleScheduleService implements ScheduleService {
             throw ErrorCode.SCHEDULE_NOT_REGISTERED_FOR_START_DATETIME_IS_AFTER_END_DATETIME.build();
         }
         // 시간 변환
-        ZoneId zoneId = ZoneId.of(memberTimezoneRepository.findById(organizerId)
-            .orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build).getZoneId());
+        ZoneId zoneId = memberTimezoneDirectory.getZoneId(organizerId);
         Instant startDatetimeInstant = AlterTimeUtils.LocalDateTimeToInstant(startDatetime, zoneId);
         Instant endDatetimeInstant = AlterTimeUtils.LocalDateTimeToInstant(endDatetime, zoneId);
 
@@ -128,35 +138,39 @@ public class SimpleScheduleService implements ScheduleService {
             .endDatetime(endDatetimeInstant).isPublic(isPublic).isDeleted(false)
             .recurrence(recurrence).build();
         Schedule saveSchedule = scheduleRepository.save(schedule);
+        memberScheduleCache.evictMembers(List.of(organizerId));
+        // 회의 외 반복 일정의 반복 미리 생성
+        scheduleOccurrenceService.materialize(saveSchedule);
         // 회의 일정의 경우
         if (type.equals(ScheduleType.MEETING)) {
             List<ScheduleAttendee> attendeeList = scheduleCreateRequest.getAttendeeList();
-            if (!attendeeList.isEmpty()) {
-                for (ScheduleAttendee attendee : attendeeList) {
-                    AttendeeStatus status = AttendeeStatus.PENDING;
-                    if (attendee.getMemberId().equals(organizerId)) {
-                        status = AttendeeStatus.ACCEPTED;
-                    }
-                    Attendee saveAttendee = Attendee.builder().schedule(saveSchedule)
-                        .memberId(attendee.getMemberId()).status(status)
-                        .isRequired(attendee.getIsRequired()).build();
-                    attendeeRepository.save(saveAttendee);
+            List<Attendee> saveAttendees = new ArrayList<>(attendeeList.size());
+            for (ScheduleAttendee attendee : attendeeList) {
+                AttendeeStatus status = AttendeeStatus.PENDING;
+                if (attendee.getMemberId().equals(organizerId)) {
+                    status = AttendeeStatus.ACCEPTED;
                 }
+                saveAttendees.add(Attendee.builder().schedule(saveSchedule)
+                    .memberId(attendee.getMemberId()).status(status)
+                    .isRequired(attendee.getIsRequired()).build());
             }
+            // 한 번에 저장해서 INSERT 를 JDBC 배치로 묶는다
+            attendeeRepository.saveAll(saveAttendees);
             List<Integer> attendeeIds = new ArrayList<>();
             for (ScheduleAttendee attendee : attendeeList) {
                 attendeeIds.add(attendee.getMemberId());
             }
-            UserInfoResponse response = userServiceClient.getUserName(
-                saveSchedule.getOrganizerId());
-            KafkaEventMessage message = MeetingCreateMessage.builder()
+            // 참석자들의 기간별 조회 캐시 무효화
+            memberScheduleCache.evictMembers(attendeeIds);
+            MeetingCreateMessage message = MeetingCreateMessage.builder()
                 .occurredAt(AlterTimeUtils.InstantToUTCLocalDateTime(Instant.now()))
                 .scheduleId(saveSchedule.getId()).organizerId(saveSchedule.getOrganizerId())
-                .organizerName(response != null ? response.getName() : null).startTime(
+                .startTime(
                     LocalDateTime.ofInstant(saveSchedule.getStartDatetime(), ZoneId.of("UTC")))
                 .endTime(LocalDateTime.ofInstant(saveSchedule.getEndDatetime(), ZoneId.of("UTC")))
                 .attendeeIds(attendeeIds).build();
-            kafkaProducer.send("meeting-created", message);
+            message.setOrganizerName(getMemberName(organizerId));
+            outboxService.append("meeting-created", saveSchedule.getId(), message);
         }
         return ScheduleCreateResponse.builder().scheduleId(saveSchedule.getId()).build();
     }
@@ -164,19 +178,21 @@ public class SimpleScheduleService implements ScheduleService {
     @Override
     @Transactional(readOnly = true)
     public ScheduleDetailReadResponse getSchedule(Integer memberId, Long id) {
-        // 해당 일정 조회
-        Schedule schedule = scheduleRepository.findById(id)
+        // 해당 일정과 참석자, 제안 조회
+        Schedule schedule = scheduleRepository.findWithDetailsById(id)
             .orElseThrow(ErrorCode.SCHEDULE_NOT_FOUND::build);
         log.info("found scheduleId: {}", schedule.getId());
         // 조회하는 사람 기준의 시간대
-        ZoneId zoneId = ZoneId.of(memberTimezoneRepository.findById(memberId)
-            .orElseThrow(ErrorCode.TIMEZONE_NOT_FOUND::build).getZoneId());
+        ZoneId zoneId = memberTimezoneDirectory.getZoneId(memberId);
 
-        List<Attendee> attendees = attendeeRepository.findBySchedule(schedule);
+        List<Attendee> attendees = schedule.getAttendees();
         List<ScheduleDetailAttendee> attendeeList = new ArrayList<>();
         String myStatus = null;
         // 일정 공유하는 사람이 있는 경우
         if (!attendees.isEmpty()) {
+            // 참석자 정보를 한 번에 조회
+            Map<Integer, UserInfoResponse> users = memberProfileService.getProfiles(
+                attendees.stream().map(Attendee::getMemberId).toList());
             for (Attendee attendee : attendees) {
                 ScheduleProposal scheduleProposal = null;
                 if (attendee.getMemberId().equals(memberId)) {
@@ -191,7 +207,7 @@ public class SimpleScheduleService implements ScheduleService {
                             AlterTimeUtils.instantToLocalDateTime(
                                 attendee.getProposal().getEndDatetime(), zoneId)).build();
                 }
-                UserInfoResponse response = userServiceClient.getUserName(attendee.getMemberId());
+                UserInfoResponse response = users.get(attendee.getMemberId());
                 ScheduleDetailAttendee attendeeDetail = ScheduleDetailAttendee.builder()
                     .memberId(attendee.getMemberId())
                     .memberName(response != null ? response.getName() : null)
@@ -242,7 +258,7 @@ public class SimpleScheduleService implements ScheduleService {
     @Override
     @Transactional(readOnly = true)
     public SimpleScheduleInfoResponse getSimpleSchedule(Long scheduleId, Integer receiverId) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
+        Schedule schedule = scheduleRepository.findWithDetailsById(scheduleId)
             .orElseThrow(ErrorCode.SCHEDULE_NOT_FOUND::build);
         AttendeeStatus status = schedule.getAttendees().stream()
             .filter(attendee -> attendee.getMemberId().equals(receiverId))
@@ -261,7 +277,10 @@ public class SimpleScheduleService implements ScheduleService {
             .name(schedule.getName())
             .receiverStatus(status)
             .organizerId(schedule.getOrganizerId())
-            .organizerName(userServiceClient.getUserName(schedule.getOrganizerId()).getName())
+            .organizerName(Optional.ofNullable(
+                    memberProfileService.getProfile(schedule.getOrganizerId()))
+                .map(UserInfoResponse::getName)
+                .orElse(null))
             .startDatetime(startDatetime)
             .endDatetime(endDatetime)
             .runningTime(getMinuteDuration(startDatetime, endDatetime))
@@ -273,588 +292,180 @@ public class SimpleScheduleService implements ScheduleService {
     @Transactional(readOnly = true)
     public ScheduleListReadResponse getScheduleByPeriod(Integer memberId, LocalDateTime start,
         LocalDateTime end) {
-        ZoneId zoneId = ZoneId.of(
-            memberTimezoneRepository.findById(memberId).orElseThrow().getZoneId());
+        ZoneId zoneId = memberTimezoneDirectory.getZoneId(memberId);
 
         Instant startInstant = AlterTimeUtils.LocalDateTimeToInstant(start, zoneId);
         Instant endInstant = AlterTimeUtils.LocalDateTimeToInstant(end, zoneId);
-        // 회의가 아닌 내 일정 리스트
-        List<Schedule> schedulesExceptMeetingList = scheduleRepository.findSchedulesExceptMeetingByOrganizerId(
-            memberId);
-        // 삭제되거나 수정된 회의 외 일정 리스트
-        List<Schedule> modifiedOrDeletedNonMeetingSchedules = scheduleRepository.findModifiedOrDeletedNonMeetingSchedulesByOrganizerId(
-            memberId);
-        // 내가 참여 중인 attendee 리스트
-        List<Attendee> attendeeList = attendeeRepository.findByMemberId(memberId);
-        // 최종적으로 조회할 결과값 리스트
-        List<IndividualSchedule> scheduleResultList = new ArrayList<>();
-        // 삭제된 회의 외 일정 리스트
-        List<DeletedSchedule> deleteScheduleList = new ArrayList<>();
-        // 수정된 회의 외 일정 리스트
-        List<UpdatedSchedule> updatedScheduleList = new ArrayList<>();
-        // 수정되거나 삭제된 회의 외 일정
+        return ScheduleListReadResponse.builder()
+            .scheduleList(getSchedulesByPeriod(Map.of(memberId, zoneId), startInstant,
+                endInstant).get(memberId))
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, List<IndividualSchedule>> getSchedulesByPeriodForMembers(
+        Collection<Integer> memberIds, Instant start, Instant end) {
+        if (memberIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return getSchedulesByPeriod(memberTimezoneDirectory.getZoneIds(memberIds), start, end);
+    }
+
+    /*
+     * 여러 사용자의 조회 기간 내 일정을 주 단위 캐시를 거쳐 조회
+     * 일정 시간은 각 사용자의 시간대 기준으로 변환한다.
+     * 캐시에 없는 주는 현재 트랜잭션(레플리카)에서 채우고, 최근에 일정이 바뀐 사용자만 프라이머리에서 채운다.
+     * 레플리카에서 채우면 방금 쓴 일정이 빠진 결과가 무효화 이후에 다시 캐시될 수 있기 때문이다.
+     */
+    private Map<Integer, List<IndividualSchedule>> getSchedulesByPeriod(
+        Map<Integer, ZoneId> zoneIds, Instant startInstant, Instant endInstant) {
+        Map<Integer, List<PeriodScheduleVO>> periodSchedules = memberScheduleCache.getSchedules(
+            zoneIds.keySet(), startInstant, endInstant,
+            (memberIds, start, end) -> loadSchedulesByPeriodFromFreshSource(memberIds, zoneIds,
+                start, end));
+        Map<Integer, List<IndividualSchedule>> scheduleResultMap = new HashMap<>();
+        periodSchedules.forEach((memberId, schedules) -> {
+            ZoneId zoneId = zoneIds.get(memberId);
+            List<IndividualSchedule> scheduleResultList = new ArrayList<>();
+            for (PeriodScheduleVO schedule : schedules) {
+                scheduleResultList.add(toIndividualSchedule(schedule, zoneId));
+            }
+            scheduleResultMap.put(memberId, scheduleResultList);
+        });
+        return scheduleResultMap;
+    }
+
+    // 최근에 쓴 사용자는 프라이머리, 나머지는 현재 트랜잭션에서 조회
+    private Map<Integer, List<PeriodScheduleVO>> loadSchedulesByPeriodFromFreshSource(
+        Collection<Integer> memberIds, Map<Integer, ZoneId> zoneIds, Instant startInstant,
+        Instant endInstant) {
+        List<Integer> writtenMemberIds = new ArrayList<>();
+        List<Integer> otherMemberIds = new ArrayList<>();
+        for (Integer memberId : memberIds) {
+            (memberScheduleCache.isRecentlyWritten(memberId) ? writtenMemberIds : otherMemberIds)
+                .add(memberId);
+        }
+        Map<Integer, List<PeriodScheduleVO>> loaded = new HashMap<>();
+        if (!otherMemberIds.isEmpty()) {
+            loaded.putAll(loadSchedulesByPeriod(otherMemberIds, zoneIds, startInstant,
+                endInstant));
+        }
+        if (!writtenMemberIds.isEmpty()) {
+            loaded.putAll(primaryReader.read(
+                () -> loadSchedulesByPeriod(writtenMemberIds, zoneIds, startInstant,
+                    endInstant)));
+        }
+        return loaded;
+    }
+
+    /*
+     * 여러 사용자의 조회 기간 내 일정을 사용자 수와 관계없이 일정한 수의 쿼리로 조회
+     * 반복은 각 사용자의 시간대 기준으로 생성한다.
+     */
+    private Map<Integer, List<PeriodScheduleVO>> loadSchedulesByPeriod(
+        Collection<Integer> memberIds, Map<Integer, ZoneId> zoneIds, Instant startInstant,
+        Instant endInstant) {
+        // 조회 기간에 걸치는 회의가 아닌 일정 리스트
+        List<Schedule> schedulesExceptMeetingList = scheduleRepository.findSchedulesExceptMeetingByOrganizerIdsWithinPeriod(
+            memberIds, startInstant, endInstant);
+        // 조회 기간에 걸치는 삭제되거나 수정된 회의 외 일정 리스트
+        List<Schedule> modifiedOrDeletedNonMeetingSchedules = scheduleRepository.findModifiedOrDeletedNonMeetingSchedulesByOrganizerIdsWithinPeriod(
+            memberIds, startInstant, endInstant);
+        // 조회 기간에 걸치는 참여 중인 회의 리스트
+        List<AttendingMeetingVO> attendingMeetings = attendeeRepository.findAttendingMeetingsByMemberIdsWithinPeriod(
+            memberIds, startInstant, endInstant);
+        // 미리 생성된 반복으로 조회할 수 있는 반복 일정의 반복
+        Map<Long, List<OccurrenceVO>> materializedOccurrences = scheduleOccurrenceService.findMaterializedOccurrences(
+            memberIds, schedulesExceptMeetingList, startInstant, endInstant, zoneIds);
+        // 최종적으로 조회할 사용자 별 결과값 리스트
+        Map<Integer, List<PeriodScheduleVO>> scheduleResultMap = new HashMap<>();
+        for (Integer memberId : memberIds) {
+            scheduleResultMap.put(memberId, new ArrayList<>());
+        }
+        // 수정되거나 삭제된 반복의 (반복 일정 ID, 원래 시작 시간) 인덱스
+        Set<RecurrenceExceptionKey> recurrenceExceptions = new HashSet<>();
         for (Schedule s : modifiedOrDeletedNonMeetingSchedules) {
-            // 반복일정이 아니면서 기한에서 벗어나는 경우
-            if (s.getEndDatetime().isBefore(startInstant) || s.getStartDatetime()
+            // 수정되거나 삭제되기 전 원래 반복의 시간
+            Instant originalStartInstant = s.getParentStartDatetime() != null
+                ? s.getParentStartDatetime() : s.getStartDatetime();
+            Instant originalEndInstant = s.getParentEndDatetime() != null
+                ? s.getParentEndDatetime() : s.getEndDatetime();
+            // 원래 반복이 조회 기간을 벗어나는 경우
+            if (originalEndInstant.isBefore(startInstant) || originalStartInstant
                 .isAfter(endInstant)) {
                 continue;
             }
-            // 반복일정 중 선택 삭제된 일정 경우
-            if (s.getIsDeleted()) {
-                DeletedSchedule deletedSchedule = DeletedSchedule.builder()
-                    .parentScheduleId(s.getParentSchedule().getId())
-                    .deleteStartInstant(
-                        s.getParentStartDatetime() != null ? s.getParentStartDatetime()
-                            : s.getStartDatetime())
-                    .deleteEndInstant(s.getParentEndDatetime() != null ? s.getParentEndDatetime()
-                        : s.getEndDatetime())
-                    .build();
-                deleteScheduleList.add(deletedSchedule);
-                continue;
-            }
-            // 반복일정 중 선택 수정된 일정 경우
-            if (s.getParentSchedule() != null && s.getParentStartDatetime() != null) {
-                UpdatedSchedule updatedSchedule = UpdatedSchedule.builder()
-                    .parentScheduleId(s.getParentSchedule().getId())
-                    .updateStartInstant(s.getParentStartDatetime())
-                    .updateEndInstant(s.getParentEndDatetime())
-                    .build();
-                updatedScheduleList.add(updatedSchedule);
+            // 반복일정 중 선택 삭제된 일정 또는 선택 수정된 일정
+            if (s.getIsDeleted() || s.getParentStartDatetime() != null) {
+                recurrenceExceptions.add(
+                    new RecurrenceExceptionKey(s.getParentSchedule().getId(),
+                        originalStartInstant));
             }
         }
 
         for (Schedule s : schedulesExceptMeetingList) {
+            List<PeriodScheduleVO> scheduleResultList = scheduleResultMap.get(
+                s.getOrganizerId());
             // 반복 아닌 회의 외 일정
             if (s.getRecurrence() == null) {
                 if (s.getEndDatetime().isBefore(startInstant) || s.getStartDatetime()
                     .isAfter(endInstant)) {
                     continue;
                 }
-                IndividualSchedule result = IndividualSchedule.builder().scheduleId(s.getId())
+                scheduleResultList.add(PeriodScheduleVO.builder().scheduleId(s.getId())
                     .organizerId(s.getOrganizerId()).name(s.getName()).type(s.getType())
-                    .color(s.getColor()).startDatetime(
-                        AlterTimeUtils.instantToLocalDateTime(s.getStartDatetime(), zoneId))
-                    .endDatetime(AlterTimeUtils.instantToLocalDateTime(s.getEndDatetime(), zoneId))
-                    .isPublic(s.getIsPublic()).build();
-                scheduleResultList.add(result);
+                    .color(s.getColor()).isPublic(s.getIsPublic())
+                    .startEpochSecond(s.getStartDatetime().getEpochSecond())
+                    .endEpochSecond(s.getEndDatetime().getEpochSecond()).build());
                 continue;
             }
-            // 반복일정 & 시작 기한이 조회 기간보다 늦는 경우
-            if (s.getStartDatetime().isAfter(endInstant)) {
-                continue;
-            }
-            // 반복일정 & 반복 기한이 다 된 경우
-            if (s.getRecurrence().getExpiredDate() != null && s.getRecurrence().getExpiredDate()
-                .isBefore(startInstant)) {
-                continue;
-            }
-            RecurrenceFreqType freq = s.getRecurrence().getFreq();
-            Integer intv = s.getRecurrence().getIntv();
-
-            // 반복 횟수가 있는 반복 일정
-            if (s.getRecurrence().getCount() != null) {
-                int count = s.getRecurrence().getCount();
-                LocalDateTime endLocalDatetime = AlterTimeUtils.instantToLocalDateTime(
-                    s.getEndDatetime(), zoneId);
-                LocalDateTime startLocalDatetime = AlterTimeUtils.instantToLocalDateTime(
-                    s.getStartDatetime(), zoneId);
-                switch (freq) {
-                    // 일일 반복
-                    case DAILY:
-                        endLocalDatetime = endLocalDatetime.plusDays((long) intv * count);
-                        // 마지막 반복이 조회기간 전에 끝나는 경우
-                        if (AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                            .isBefore(startInstant)) {
-                            continue;
-                        }
-                        endLocalDatetime = AlterTimeUtils.instantToLocalDateTime(s.getEndDatetime(),
-                            zoneId);
-                        for (int i = 0; i < count;
-                            i++, startLocalDatetime = startLocalDatetime.plusDays(
-                                intv), endLocalDatetime = endLocalDatetime.plusDays(intv)) {
-                            // 반복이 조회기간을 벗어나면 넘어가
-                            boolean isOutOfPeriod = isOutOfPeriod(startLocalDatetime, startInstant,
-                                endLocalDatetime, endInstant, zoneId);
-                            if (isOutOfPeriod) {
-                                continue;
-                            }
-                            // 삭제된 스케줄인 경우 넘어가기
-                            boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                startLocalDatetime, endLocalDatetime, zoneId);
-                            if (isDeletedSchedule) {
-                                continue;
-                            }
-                            // 수정된 스케줄인 경우 넘어가기
-                            boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList, s,
-                                zoneId, startLocalDatetime, endLocalDatetime);
-                            if (isUpdatedSchedule) {
-                                continue;
-                            }
-
-                            // AFTERALL 삭제된 일정인 경우 넘어가
-                            if (s.getRecurrence().getExpiredDate() != null
-                                && !AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime,
-                                zoneId).isBefore(s.getRecurrence().getExpiredDate())) {
-                                continue;
-                            }
-
-                            IndividualSchedule result = IndividualSchedule.builder()
-                                .scheduleId(s.getId()).organizerId(s.getOrganizerId())
-                                .name(s.getName()).type(s.getType()).color(s.getColor())
-                                .startDatetime(startLocalDatetime).endDatetime(endLocalDatetime)
-                                .isPublic(s.getIsPublic()).build();
-                            scheduleResultList.add(result);
-                        }
-                        break;
-                    case MONTHLY:
-                        endLocalDatetime = endLocalDatetime.plusMonths((long) intv * count);
-                        // 마지막 반복이 조회기간 전에 끝나는 경우
-                        if (AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                            .isBefore(startInstant)) {
-                            continue;
-                        }
-                        // 반복이 조회기간에 존재하면 추가
-                        endLocalDatetime = AlterTimeUtils.instantToLocalDateTime(s.getEndDatetime(),
-                            zoneId);
-                        for (int i = 0; i < count;
-                            i++, startLocalDatetime = startLocalDatetime.plusMonths(
-                                intv), endLocalDatetime = endLocalDatetime.plusMonths(intv)) {
-                            // 반복이 조회기간을 벗어나면 넘어가
-                            boolean isOutOfPeriod = isOutOfPeriod(startLocalDatetime, startInstant,
-                                endLocalDatetime, endInstant, zoneId);
-                            if (isOutOfPeriod) {
-                                continue;
-                            }
-                            // 삭제된 일정인 경우 넘어가
-                            boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                startLocalDatetime, endLocalDatetime, zoneId);
-                            if (isDeletedSchedule) {
-                                continue;
-                            }
-                            // 수정된 일정인 경우 넘어가
-                            boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList, s,
-                                zoneId, startLocalDatetime, endLocalDatetime);
-                            if (isUpdatedSchedule) {
-                                continue;
-                            }
-
-                            // AFTERALL 삭제된 일정인 경우 넘어가
-                            if (s.getRecurrence().getExpiredDate() != null
-                                && !AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime,
-                                zoneId).isBefore(s.getRecurrence().getExpiredDate())) {
-                                continue;
-                            }
-
-                            IndividualSchedule result = IndividualSchedule.builder()
-                                .scheduleId(s.getId()).organizerId(s.getOrganizerId())
-                                .name(s.getName()).type(s.getType()).color(s.getColor())
-                                .startDatetime(startLocalDatetime).endDatetime(endLocalDatetime)
-                                .isPublic(s.getIsPublic()).build();
-                            scheduleResultList.add(result);
-                        }
-                        break;
-                    default:
-                        EnumSet<RecurrenceDayType> recurrenceDay = s.getRecurrence()
-                            .getRecurrenceDay();
-                        // 시작 요일
-                        DayOfWeek startDay = AlterTimeUtils.instantToLocalDateTime(
-                            s.getStartDatetime(), zoneId).getDayOfWeek();
-                        // 반복 요일 정렬
-                        List<Integer> dayList = sortDayList(recurrenceDay, startDay);
-                        // 반복의 마지막 날
-                        endLocalDatetime = endLocalDatetime.plusDays(
-                            dayList.get(dayList.size() - 1)).plusWeeks((long) intv * count);
-                        // 반복 마지막이 조회기간 전에 끝나는 경우
-                        if (endLocalDatetime.isBefore(startLocalDatetime)) {
-                            continue;
-                        }
-                        endLocalDatetime = AlterTimeUtils.instantToLocalDateTime(s.getEndDatetime(),
-                            zoneId);
-                        weekly:
-                        for (int i = 0; i < count;
-                            i++, startLocalDatetime = startLocalDatetime.plusWeeks(
-                                intv), endLocalDatetime = endLocalDatetime.plusWeeks(intv)) {
-                            for (Integer day : dayList) {
-                                LocalDateTime weekStartLocalDatetime = startLocalDatetime.plusDays(
-                                    day);
-                                LocalDateTime weekEndLocalDatetime = endLocalDatetime.plusDays(day);
-                                // 반복 시작이 조회 마지막 기간 이후인 경우 반복 종료
-                                if (AlterTimeUtils.LocalDateTimeToInstant(weekStartLocalDatetime,
-                                    zoneId).isAfter(endInstant)) {
-                                    break weekly;
-                                }
-                                // 반복이 조회 기간을 벗어나는 경우 넘어가
-                                boolean isOutOfPeriod = isOutOfPeriod(weekStartLocalDatetime,
-                                    startInstant, weekEndLocalDatetime, endInstant, zoneId);
-                                if (isOutOfPeriod) {
-                                    continue;
-                                }
-                                // 삭제된 일정인 경우 넘어가
-                                boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                    startLocalDatetime, endLocalDatetime, zoneId);
-                                if (isDeletedSchedule) {
-                                    continue;
-                                }
-                                // 수정된 일정인 경우 넘어가
-                                boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList,
-                                    s, zoneId, weekStartLocalDatetime, weekEndLocalDatetime);
-                                if (isUpdatedSchedule) {
-                                    continue;
-                                }
-
-                                // AFTERALL 삭제된 일정인 경우 넘어가
-                                if (s.getRecurrence().getExpiredDate() != null
-                                    && !AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime,
-                                    zoneId).isBefore(s.getRecurrence().getExpiredDate())) {
-                                    continue;
-                                }
-
-                                IndividualSchedule result = IndividualSchedule.builder()
-                                    .scheduleId(s.getId()).organizerId(s.getOrganizerId())
-                                    .name(s.getName()).type(s.getType()).color(s.getColor())
-                                    .startDatetime(weekStartLocalDatetime)
-                                    .endDatetime(weekEndLocalDatetime).isPublic(s.getIsPublic())
-                                    .build();
-                                scheduleResultList.add(result);
-                            }
-                        }
-                        break;
-                }
-                continue;
-            }
-            // 반복일정 & 반복 기한이 있는 반복
-            if (s.getRecurrence().getExpiredDate() != null) {
-                LocalDateTime startLocalDatetime = AlterTimeUtils.instantToLocalDateTime(
-                    s.getStartDatetime(), zoneId);
-                LocalDateTime endLocalDatetime = AlterTimeUtils.instantToLocalDateTime(
-                    s.getEndDatetime(), zoneId);
-                switch (freq) {
-                    case DAILY:
-                        // 반복 시작일이 반복 기한 전이면서, 조회 마지막 기간 이전인 경우 계속 반복
-                        while (AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(s.getRecurrence().getExpiredDate())
-                            && AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(endInstant)) {
-                            // 반복 종료일이 조회 시작기간보다 이전인 경우 그냥 넘어가
-                            if (AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                                .isBefore(startInstant)) {
-                                startLocalDatetime = startLocalDatetime.plusDays(intv);
-                                endLocalDatetime = endLocalDatetime.plusDays(intv);
-                                continue;
-                            }
-
-                            boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                startLocalDatetime, endLocalDatetime, zoneId);
-                            if (isDeletedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusDays(intv);
-                                endLocalDatetime = endLocalDatetime.plusDays(intv);
-                                continue;
-                            }
-
-                            boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList, s,
-                                zoneId, startLocalDatetime, endLocalDatetime);
-                            if (isUpdatedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusDays(intv);
-                                endLocalDatetime = endLocalDatetime.plusDays(intv);
-                                continue;
-                            }
-
-                            // AFTERALL 삭제된 일정인 경우 넘어가
-                            if (!AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                                .isBefore(s.getRecurrence().getExpiredDate())) {
-                                continue;
-                            }
-
-                            IndividualSchedule individualSchedule = IndividualSchedule.builder()
-                                .scheduleId(s.getId()).name(s.getName())
-                                .organizerId(s.getOrganizerId()).type(s.getType())
-                                .color(s.getColor()).startDatetime(startLocalDatetime)
-                                .endDatetime(endLocalDatetime).isPublic(s.getIsPublic()).build();
-                            scheduleResultList.add(individualSchedule);
-                            startLocalDatetime = startLocalDatetime.plusDays(intv);
-                            endLocalDatetime = endLocalDatetime.plusDays(intv);
-                        }
-                        break;
-                    case MONTHLY:
-                        // 반복 시작일이 반복 기한 전이면서, 조회 마지막 기간 이전인 경우 계속 반복
-                        while (AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(s.getRecurrence().getExpiredDate())
-                            && AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(endInstant)) {
-                            // 반복 종료일이 조회 시작기간보다 이전인 경우 그냥 넘어가
-                            if (AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                                .isBefore(startInstant)) {
-                                startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                                endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                                continue;
-                            }
-
-                            boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                startLocalDatetime, endLocalDatetime, zoneId);
-                            if (isDeletedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                                endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                                continue;
-                            }
-
-                            boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList, s,
-                                zoneId, startLocalDatetime, endLocalDatetime);
-                            if (isUpdatedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                                endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                                continue;
-                            }
-                            // AFTERALL 삭제된 일정인 경우 넘어가
-                            if (!AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                                .isBefore(s.getRecurrence().getExpiredDate())) {
-                                continue;
-                            }
-
-                            IndividualSchedule individualSchedule = IndividualSchedule.builder()
-                                .scheduleId(s.getId()).name(s.getName())
-                                .organizerId(s.getOrganizerId()).type(s.getType())
-                                .color(s.getColor()).startDatetime(startLocalDatetime)
-                                .endDatetime(endLocalDatetime).isPublic(s.getIsPublic()).build();
-                            scheduleResultList.add(individualSchedule);
-                            startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                            endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                        }
-                        break;
-                    default:
-                        EnumSet<RecurrenceDayType> recurrenceDay = s.getRecurrence()
-                            .getRecurrenceDay();
-                        // 시작 요일
-                        DayOfWeek startDay = AlterTimeUtils.instantToLocalDateTime(
-                            s.getStartDatetime(), zoneId).getDayOfWeek();
-                        // 반복 요일 정렬
-                        List<Integer> dayList = sortDayList(recurrenceDay, startDay);
-                        int idx = 0;
-                        weekly:
-                        // 반복시작일이 만료기한 이전이면서 조회 마지막 기간 이전인 경우 계속 반복
-                        while (AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(s.getRecurrence().getExpiredDate())
-                            && AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(endInstant)) {
-                            if (idx != 0) {
-                                startLocalDatetime = startLocalDatetime.plusWeeks((long) intv);
-                                endLocalDatetime = endLocalDatetime.plusWeeks((long) intv);
-                            }
-                            idx++;
-                            for (Integer day : dayList) {
-                                LocalDateTime weekStartLocalDatetime = startLocalDatetime.plusDays(
-                                    day);
-                                LocalDateTime weekEndLocalDatetime = endLocalDatetime.plusDays(day);
-                                // 반복 시작이 조회 마지막 기간 이후인 경우 반복 종료
-                                if (AlterTimeUtils.LocalDateTimeToInstant(weekStartLocalDatetime,
-                                    zoneId).isAfter(endInstant)) {
-                                    break weekly;
-                                }
-                                // 반복이 조회 기간을 벗어나는 경우 넘어가
-                                boolean isOutOfPeriod = isOutOfPeriod(weekStartLocalDatetime,
-                                    startInstant, weekEndLocalDatetime, endInstant, zoneId);
-                                if (isOutOfPeriod) {
-                                    continue;
-                                }
-                                // 삭제된 일정인 경우 넘어가
-                                boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                    weekStartLocalDatetime, weekEndLocalDatetime, zoneId
-                                );
-                                if (isDeletedSchedule) {
-                                    continue;
-                                }
-                                // 수정된 일정인 경우 넘어가
-                                boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList,
-                                    s, zoneId, weekStartLocalDatetime, weekEndLocalDatetime);
-                                if (isUpdatedSchedule) {
-                                    continue;
-                                }
-                                // AFTERALL 삭제된 일정인 경우 넘어가
-                                if (!AlterTimeUtils.LocalDateTimeToInstant(weekStartLocalDatetime,
-                                    zoneId).isBefore(s.getRecurrence().getExpiredDate())) {
-                                    continue;
-                                }
-                                IndividualSchedule result = IndividualSchedule.builder()
-                                    .scheduleId(s.getId()).organizerId(s.getOrganizerId())
-                                    .name(s.getName()).type(s.getType()).color(s.getColor())
-                                    .startDatetime(weekStartLocalDatetime)
-                                    .endDatetime(weekEndLocalDatetime).isPublic(s.getIsPublic())
-                                    .build();
-                                scheduleResultList.add(result);
-                            }
-                        }
-                        break;
-                }
-            }
-            // 반복일정 & 기한이 없는 반복
-            if (s.getRecurrence().getExpiredDate() == null) {
-                LocalDateTime startLocalDatetime = AlterTimeUtils.instantToLocalDateTime(
-                    s.getStartDatetime(), zoneId);
-                LocalDateTime endLocalDatetime = AlterTimeUtils.instantToLocalDateTime(
-                    s.getEndDatetime(), zoneId);
-                switch (freq) {
-                    case DAILY:
-                        // 반복 시작일이 조회 마지막 기간 이전인 경우 계속 반복
-                        while (AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(endInstant)) {
-                            // 반복 종료일이 조회 시작기간보다 이전인 경우 그냥 넘어가
-                            if (AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                                .isBefore(startInstant)) {
-                                startLocalDatetime = startLocalDatetime.plusDays(intv);
-                                endLocalDatetime = endLocalDatetime.plusDays(intv);
-                                continue;
-                            }
-
-                            boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                startLocalDatetime, endLocalDatetime, zoneId);
-                            if (isDeletedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusDays(intv);
-                                endLocalDatetime = endLocalDatetime.plusDays(intv);
-                                continue;
-                            }
-
-                            boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList, s,
-                                zoneId, startLocalDatetime, endLocalDatetime);
-                            if (isUpdatedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusDays(intv);
-                                endLocalDatetime = endLocalDatetime.plusDays(intv);
-                                continue;
-                            }
-
-                            IndividualSchedule individualSchedule = IndividualSchedule.builder()
-                                .name(s.getName()).organizerId(memberId).scheduleId(s.getId())
-                                .type(s.getType()).color(s.getColor())
-                                .startDatetime(startLocalDatetime).endDatetime(endLocalDatetime)
-                                .isPublic(s.getIsPublic()).build();
-                            scheduleResultList.add(individualSchedule);
-
-                            startLocalDatetime = startLocalDatetime.plusDays(intv);
-                            endLocalDatetime = endLocalDatetime.plusDays(intv);
-                        }
-                        break;
-                    case MONTHLY:
-                        // 반복 종료일이 조회 마지막 기간 이전인 경우 계속 반복
-                        while (AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(endInstant)) {
-                            // 반복 종료일이 조회 시작기간보다 이전인 경우 그냥 넘어가
-                            if (AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                                .isBefore(startInstant)) {
-                                startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                                endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                                continue;
-                            }
-                            boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                startLocalDatetime, endLocalDatetime, zoneId);
-                            if (isDeletedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                                endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                                continue;
-                            }
-
-                            boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList, s,
-                                zoneId, startLocalDatetime, endLocalDatetime);
-                            if (isUpdatedSchedule) {
-                                startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                                endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                                continue;
-                            }
-                            IndividualSchedule individualSchedule = IndividualSchedule.builder()
-                                .name(s.getName()).organizerId(memberId).scheduleId(s.getId())
-                                .type(s.getType()).color(s.getColor())
-                                .startDatetime(startLocalDatetime).endDatetime(endLocalDatetime)
-                                .isPublic(s.getIsPublic()).build();
-                            scheduleResultList.add(individualSchedule);
-
-                            startLocalDatetime = startLocalDatetime.plusMonths(intv);
-                            endLocalDatetime = endLocalDatetime.plusMonths(intv);
-                        }
-                        break;
-                    default:
-                        EnumSet<RecurrenceDayType> recurrenceDay = s.getRecurrence()
-                            .getRecurrenceDay();
-                        // 시작 요일
-                        DayOfWeek startDay = AlterTimeUtils.instantToLocalDateTime(
-                            s.getStartDatetime(), zoneId).getDayOfWeek();
-                        // 반복 요일 정렬
-                        List<Integer> dayList = sortDayList(recurrenceDay, startDay);
-                        int idx = 0;
-
-                        weekly:
-                        // 반복시작일이 조회 마지막 기간 이전인 경우 계속 반복
-                        while (AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId)
-                            .isBefore(endInstant)) {
-                            if (idx > 0) {
-                                startLocalDatetime = startLocalDatetime.plusWeeks((long) intv);
-                                endLocalDatetime = endLocalDatetime.plusWeeks((long) intv);
-                            }
-                            idx++;
-                            for (Integer day : dayList) {
-                                LocalDateTime weekStartLocalDatetime = startLocalDatetime.plusDays(
-                                    day);
-                                LocalDateTime weekEndLocalDatetime = endLocalDatetime.plusDays(day);
-                                // 반복 시작이 조회 마지막 기간 이후인 경우 반복 종료
-                                if (AlterTimeUtils.LocalDateTimeToInstant(weekStartLocalDatetime,
-                                    zoneId).isAfter(endInstant)) {
-                                    break weekly;
-                                }
-                                // 반복이 조회 기간을 벗어나는 경우 넘어가
-                                boolean isOutOfPeriod = isOutOfPeriod(weekStartLocalDatetime,
-                                    startInstant, weekEndLocalDatetime, endInstant, zoneId);
-                                if (isOutOfPeriod) {
-                                    continue;
-                                }
-                                // 삭제된 일정인 경우 넘어가
-                                boolean isDeletedSchedule = isDeletedSchedule(deleteScheduleList, s,
-                                    weekStartLocalDatetime, weekEndLocalDatetime, zoneId
-                                );
-                                if (isDeletedSchedule) {
-                                    continue;
-                                }
-                                // 수정된 일정인 경우 넘어가
-                                boolean isUpdatedSchedule = isUpdatedSchedule(updatedScheduleList,
-                                    s, zoneId, weekStartLocalDatetime, weekEndLocalDatetime);
-                                if (isUpdatedSchedule) {
-                                    continue;
-                                }
-
-                                IndividualSchedule result = IndividualSchedule.builder()
-                                    .scheduleId(s.getId()).organizerId(s.getOrganizerId())
-                                    .name(s.getName()).type(s.getType()).color(s.getColor())
-                                    .startDatetime(weekStartLocalDatetime)
-                                    .endDatetime(weekEndLocalDatetime).isPublic(s.getIsPublic())
-                                    .build();
-                                scheduleResultList.add(result);
-                            }
-                        }
-                        break;
+            // 반복일정 중 조회 기간에 걸치는 반복 (미리 생성되지 않았으면 직접 생성)
+            List<OccurrenceVO> occurrences = materializedOccurrences.containsKey(s.getId())
+                ? materializedOccurrences.get(s.getId())
+                : RecurrenceUtils.expandWithinPeriod(s.getRecurrence(), s.getStartDatetime(),
+                    s.getEndDatetime(), startInstant, endInstant,
+                    zoneIds.get(s.getOrganizerId()));
+            for (OccurrenceVO occurrence : occurrences) {
+                // 삭제되거나 수정된 일정인 경우 넘어가
+                if (isModifiedOrDeletedOccurrence(recurrenceExceptions, s, occurrence)) {
+                    continue;
                 }
+                scheduleResultList.add(PeriodScheduleVO.builder().scheduleId(s.getId())
+                    .organizerId(s.getOrganizerId()).name(s.getName()).type(s.getType())
+                    .color(s.getColor()).isPublic(s.getIsPublic())
+                    .startEpochSecond(occurrence.startInstant().getEpochSecond())
+                    .endEpochSecond(occurrence.endInstant().getEpochSecond())
+                    .isOccurrence(true).build());
             }
         }
         // 회의 일정
-        for (Attendee a : attendeeList) {
-            Schedule meetingWithMe = scheduleRepository.findById(a.getSchedule().getId())
-                .orElseThrow();
-            if (meetingWithMe.getStartDatetime().isAfter(endInstant)) {
-                continue;
-            }
-            if (meetingWithMe.getEndDatetime().isBefore(startInstant)) {
-                continue;
-            }
-            IndividualSchedule individualSchedule = IndividualSchedule.builder()
-                .scheduleId(meetingWithMe.getId()).organizerId(meetingWithMe.getOrganizerId())
-                .name(meetingWithMe.getName()).type(meetingWithMe.getType())
-                .color(meetingWithMe.getColor()).startDatetime(
-                    AlterTimeUtils.instantToLocalDateTime(meetingWithMe.getStartDatetime(), zoneId))
-                .endDatetime(
-                    AlterTimeUtils.instantToLocalDateTime(meetingWithMe.getEndDatetime(), zoneId))
-                .isPublic(meetingWithMe.getIsPublic()).meetingDetail(
-                    MeetingScheduleDetail.builder().isRequired(a.getIsRequired())
-                        .status(String.valueOf(a.getStatus())).reason(a.getReason()).build())
-                .build();
-
-            scheduleResultList.add(individualSchedule);
+        for (AttendingMeetingVO meeting : attendingMeetings) {
+            scheduleResultMap.get(meeting.memberId()).add(PeriodScheduleVO.builder()
+                .scheduleId(meeting.scheduleId()).organizerId(meeting.organizerId())
+                .name(meeting.name()).type(meeting.type()).color(meeting.color())
+                .isPublic(meeting.isPublic())
+                .startEpochSecond(meeting.startDatetime().getEpochSecond())
+                .endEpochSecond(meeting.endDatetime().getEpochSecond())
+                .isAttending(true).isRequired(meeting.isRequired()).status(meeting.status())
+                .reason(meeting.reason()).build());
         }
-        return ScheduleListReadResponse.builder()
-            .scheduleList(scheduleResultList)
+        return scheduleResultMap;
+    }
+
+    // 조회하는 사람 기준의 시간대로 변환
+    private IndividualSchedule toIndividualSchedule(PeriodScheduleVO schedule, ZoneId zoneId) {
+        return IndividualSchedule.builder()
+            .scheduleId(schedule.scheduleId()).organizerId(schedule.organizerId())
+            .name(schedule.name()).type(schedule.type()).color(schedule.color())
+            .startDatetime(AlterTimeUtils.instantToLocalDateTime(
+                Instant.ofEpochSecond(schedule.startEpochSecond()), zoneId))
+            .endDatetime(AlterTimeUtils.instantToLocalDateTime(
+                Instant.ofEpochSecond(schedule.endEpochSecond()), zoneId))
+            .isPublic(schedule.isPublic())
+            .meetingDetail(schedule.isAttending() ? MeetingScheduleDetail.builder()
+                .isRequired(schedule.isRequired()).status(String.valueOf(schedule.status()))
+                .reason(schedule.reason()).build() : null)
             .build();
     }
 
@@ -883,8 +494,7 @@ public class SimpleScheduleService implements ScheduleService {
         if (!startDatetime.isBefore(endDatetime)) {
             throw ErrorCode.SCHEDULE_NOT_REGISTERED_FOR_START_DATETIME_IS_AFTER_END_DATETIME.build();
         }
-        ZoneId zoneId = ZoneId.of(
-            memberTimezoneRepository.findById(memberId).orElseThrow().getZoneId());
+        ZoneId zoneId = memberTimezoneDirectory.getZoneId(memberId);
         Instant startInstant = AlterTimeUtils.LocalDateTimeToInstant(startDatetime, zoneId);
         Instant endInstant = AlterTimeUtils.LocalDateTimeToInstant(endDatetime, zoneId);
 
@@ -893,6 +503,7 @@ public class SimpleScheduleService implements ScheduleService {
         Integer organizerId = savedSchedule.getOrganizerId();
         // 주최자가 아닌 경우 오류
         validateOrganizer(savedSchedule, memberId);
+        memberScheduleCache.evictMembers(List.of(organizerId));
         // 회의 외의 일정인 경우
         if (!String.valueOf(savedSchedule.getType()).equals("MEETING")) {
             // 반복에서 하루 수정된 일정이 또 수정되는 경우
@@ -962,61 +573,71 @@ public class SimpleScheduleService implements ScheduleService {
                     .parentSchedule(savedSchedule).recurrence(newRecurrence).isDeleted(false)
                     .build();
                 Schedule result = scheduleRepository.save(modifiedSchedule);
+                // 기존 반복은 기한이 바뀌었으므로 새 반복과 함께 다시 생성
+                scheduleOccurrenceService.materialize(savedSchedule);
+                scheduleOccurrenceService.materialize(result);
                 return ScheduleUpdateResponse.builder().scheduleId(result.getId()).build();
             }
             // 그냥 반복하지 않는 일정
             savedSchedule.updateNotRecurrencePrivateSchedule(organizerId, name, description, type,
                 startInstant, endInstant, isPublic, color);
+            // 반복 정보가 남아있는 일정이면 바뀐 시간으로 반복 다시 생성
+            scheduleOccurrenceService.materialize(savedSchedule);
             return ScheduleUpdateResponse.builder().scheduleId(savedSchedule.getId()).build();
         }
 
         // 회의 일정인 경우 //
         // 기존 참석자 명단
         List<Attendee> originalAttendeeList = attendeeRepository.findBySchedule(savedSchedule);
-        List<Integer> originalAttendeeIdList = new ArrayList<>();
+        Map<Integer, Attendee> removedAttendeeMap = new LinkedHashMap<>();
         for (Attendee originalAttendee : originalAttendeeList) {
-            originalAttendeeIdList.add(originalAttendee.getMemberId());
+            removedAttendeeMap.put(originalAttendee.getMemberId(), originalAttendee);
         }
-        // 변경 후 참석자 명단
+        // 변경 후 참석자 명단, 유지되는 참석자는 응답 상태와 제안을 그대로 둔다
         List<Attendee> newAttendeeList = new ArrayList<>();
+        List<Attendee> addAttendeeList = new ArrayList<>();
+        List<Integer> maintainedMemberList = new ArrayList<>();
+        List<Integer> addMemberList = new ArrayList<>();
         for (ScheduleUpdateRequest.ScheduleAttendee attendee : attendeeList) {
+            Attendee maintainedAttendee = removedAttendeeMap.remove(attendee.getMemberId());
+            if (maintainedAttendee != null) {
+                maintainedAttendee.changeRequired(attendee.getIsRequired());
+                newAttendeeList.add(maintainedAttendee);
+                maintainedMemberList.add(attendee.getMemberId());
+                continue;
+            }
             Attendee newAttendee = Attendee.builder().isRequired(attendee.getIsRequired())
                 .memberId(attendee.getMemberId()).schedule(savedSchedule)
-                .status(AttendeeStatus.PENDING).build();
+                .status(attendee.getMemberId().equals(organizerId) ? AttendeeStatus.ACCEPTED
+                    : AttendeeStatus.PENDING).build();
             newAttendeeList.add(newAttendee);
+            addAttendeeList.add(newAttendee);
+            addMemberList.add(attendee.getMemberId());
         }
-        List<Integer> newAttendeeIdList = new ArrayList<>();
-        for (Attendee newAttendee : newAttendeeList) {
-            newAttendeeIdList.add(newAttendee.getMemberId());
-        }
+        List<Attendee> removedAttendeeList = new ArrayList<>(removedAttendeeMap.values());
+        List<Integer> cancelMemberList = new ArrayList<>(removedAttendeeMap.keySet());
+
+        // 기존 참석자와 변경 후 참석자 모두 기간별 조회 캐시 무효화
+        List<Integer> evictMemberList = new ArrayList<>(maintainedMemberList);
+        evictMemberList.addAll(addMemberList);
+        evictMemberList.addAll(cancelMemberList);
+        memberScheduleCache.evictMembers(evictMemberList);
 
         // 일정 업데이트
         savedSchedule.updateMeetingSchedule(name, description, type, startInstant, endInstant,
             isPublic, color, newAttendeeList);
 
-        List<Integer> cancelMemberList = new ArrayList<>();
-        List<Integer> maintainedMemberList = new ArrayList<>();
-        List<Integer> addMemberList = new ArrayList<>();
-
-        // 기존 멤버 -> 유지 or 새로운 멤버 체크
-        for (Integer newAttendeeId : newAttendeeIdList) {
-            if (originalAttendeeIdList.contains(newAttendeeId)) {
-                maintainedMemberList.add(newAttendeeId);
-            } else {
-                addMemberList.add(newAttendeeId);
+        // 빠진 참석자와 제안 삭제
+        List<Proposal> removedProposalList = new ArrayList<>();
+        for (Attendee removedAttendee : removedAttendeeList) {
+            if (removedAttendee.getProposal() != null) {
+                removedProposalList.add(removedAttendee.getProposal());
             }
         }
-        // 기존 멤버 -> 삭제 체크
-        for (Integer originalAttendeeId : originalAttendeeIdList) {
-            if (!newAttendeeIdList.contains(originalAttendeeId)) {
-                cancelMemberList.add(originalAttendeeId);
-            }
-        }
-        // 참석자 명단 삭제
-        attendeeRepository.deleteAll(originalAttendeeList);
-        // 참석자 명단 추가
-        attendeeRepository.saveAll(newAttendeeList);
-        UserInfoResponse response = userServiceClient.getUserName(organizerId);
+        attendeeRepository.deleteAll(removedAttendeeList);
+        proposalRepository.deleteAll(removedProposalList);
+        // 추가된 참석자만 저장
+        attendeeRepository.saveAll(addAttendeeList);
         LocalDateTime startLocalDatetime = AlterTimeUtils.InstantToUTCLocalDateTime(
             savedSchedule.getStartDatetime());
         LocalDateTime endLocalDatetime = AlterTimeUtils.InstantToUTCLocalDateTime(
@@ -1026,7 +647,6 @@ public class SimpleScheduleService implements ScheduleService {
             .scheduleId(scheduleId)
             .scheduleName(savedSchedule.getName())
             .organizerId(savedSchedule.getOrganizerId())
-            .organizerName(response != null ? response.getName() : null)
             .previousStartTime(null)
             .previousEndTime(null)
             .updatedStartTime(startLocalDatetime)
@@ -1062,7 +682,8 @@ public class SimpleScheduleService implements ScheduleService {
 
         message.setUpdatedFields(updatedFields);
 
-        kafkaProducer.send("meeting-updated", message);
+        message.setOrganizerName(getMemberName(organizerId));
+        outboxService.append("meeting-updated", savedSchedule.getId(), message);
         return ScheduleUpdateResponse.builder().scheduleId(savedSchedule.getId()).build();
     }
 
@@ -1070,8 +691,7 @@ public class SimpleScheduleService implements ScheduleService {
     @Transactional
     public void deleteSchedule(Integer memberId, Long id,
         ScheduleDeleteRequest scheduleDeleteRequest) {
-        ZoneId zoneId = ZoneId.of(
-            memberTimezoneRepository.findById(memberId).orElseThrow().getZoneId());
+        ZoneId zoneId = memberTimezoneDirectory.getZoneId(memberId);
         ScheduleDeleteRange deleteRange = scheduleDeleteRequest.getDeleteRange();
         LocalDateTime deleteStartLocalDatetime = null;
         LocalDateTime deleteEndLocalDatetime = null;
@@ -1091,20 +711,23 @@ public class SimpleScheduleService implements ScheduleService {
 
         // 주최자만 삭제 가능
         validateOrganizer(schedule, memberId);
+        memberScheduleCache.evictMembers(List.of(memberId));
         // 회의 일정인 경우
         if (schedule.getType().equals(ScheduleType.MEETING)) {
             // 참석자들
-            List<Attendee> attendeeList = attendeeRepository.findBySchedule(schedule);
-            // 일정 제안 및 참석자 삭제
-            for (Attendee attendee : attendeeList) {
-                if (attendee.getProposal() != null) {
-                    proposalRepository.delete(attendee.getProposal());
-                }
-                attendeeRepository.delete(attendee);
+            List<Integer> attendeeIds = attendeeRepository.findMemberIdsByScheduleId(id);
+            memberScheduleCache.evictMembers(attendeeIds);
+            // 참석자 수와 상관없이 참석자, 제안, 일정, 반복 규칙 순으로 한 번에 삭제
+            List<Long> proposalIds = attendeeRepository.findProposalIdsByScheduleIdIn(
+                List.of(id));
+            attendeeRepository.deleteByScheduleIdIn(List.of(id));
+            if (!proposalIds.isEmpty()) {
+                proposalRepository.deleteByIdIn(proposalIds);
+            }
+            scheduleRepository.deleteByIdIn(List.of(id));
+            if (schedule.getRecurrence() != null) {
+                recurrenceRepository.deleteByIdIn(List.of(schedule.getRecurrence().getId()));
             }
-            // 일정 삭제
-            scheduleRepository.delete(schedule);
-            UserInfoResponse response = userServiceClient.getUserName(schedule.getOrganizerId());
             LocalDateTime startLocalDatetime = AlterTimeUtils.InstantToUTCLocalDateTime(
                 schedule.getStartDatetime());
             LocalDateTime endLocalDatetime = AlterTimeUtils.InstantToUTCLocalDateTime(
@@ -1115,15 +738,15 @@ public class SimpleScheduleService implements ScheduleService {
                 .scheduleId(id)
                 .scheduleName(schedule.getName())
                 .organizerId(schedule.getOrganizerId())
-                .organizerName(response != null ? response.getName() : null)
                 .startTime(startLocalDatetime)
                 .endTime(endLocalDatetime)
                 .runningTime(getMinuteDuration(
                     startLocalDatetime,
                     endLocalDatetime))
-                .attendeeIds(attendeeList.stream().map(Attendee::getMemberId).toList())
+                .attendeeIds(attendeeIds)
                 .build();
-            kafkaProducer.send("meeting-deleted", message);
+            message.setOrganizerName(getMemberName(schedule.getOrganizerId()));
+            outboxService.append("meeting-deleted", id, message);
             return;
         }
 
@@ -1136,43 +759,7 @@ public class SimpleScheduleService implements ScheduleService {
         switch (deleteRange) {
             // 1. 모든 일정 삭제하는 경우
             case ALL:
-                // input 일정 이후로 수정사항 생긴 반복들
-                List<Schedule> scheduleList = scheduleRepository.findScheduleByParentSchedule(
-                    schedule);
-                // 위에 애들도 마찬가지로 수정사항 생겼을 수도 있으니 반복
-                for (int i = 0; i < scheduleList.size(); i++) {
-                    List<Schedule> childScheduleList = scheduleRepository.findScheduleByParentSchedule(
-                        scheduleList.get(i));
-                    // 반복이 있으면 반복도 삭제
-                    if (scheduleList.get(i).getRecurrence() != null) {
-                        recurrenceRepository.delete(scheduleList.get(i).getRecurrence());
-                    }
-                    // 일정 삭제
-                    scheduleRepository.delete(scheduleList.get(i));
-                    // schedulList에 추가
-                    scheduleList.addAll(childScheduleList);
-                }
-                // 내 스케줄의 부모 반복이 있다면 parent 스케줄도 지우기
-                if (schedule.getParentSchedule() != null) {
-                    List<Schedule> parentScheduleList = new ArrayList<>(
-                        List.of(schedule.getParentSchedule()));
-                    for (int i = 0; i < parentScheduleList.size(); i++) {
-                        // 부모의 부모가 있다면 추가
-                        // 위의 애들의 parent 스케줄도 지우기
-                        if (parentScheduleList.get(i).getParentSchedule() != null) {
-                            parentScheduleList.add(parentScheduleList.get(i).getParentSchedule());
-                        }
-                        // 부모의 반복이 있다면 삭제
-                        if (parentScheduleList.get(i).getRecurrence() != null) {
-                            recurrenceRepository.delete(parentScheduleList.get(i).getRecurrence());
-                        }
-                        scheduleRepository.delete(parentScheduleList.get(i));
-                    }
-                }
-                if (schedule.getRecurrence() != null) {
-                    recurrenceRepository.delete(schedule.getRecurrence());
-                }
-                scheduleRepository.delete(schedule);
+                deleteSeries(schedule.getId());
                 break;
             // 2. 선택적으로 삭제하는 경우
             case ONE:
@@ -1195,10 +782,30 @@ public class SimpleScheduleService implements ScheduleService {
             default:
                 Recurrence recurrence = schedule.getRecurrence();
                 recurrence.terminateRecurrenceByDate(startDeleteInstant);
+                scheduleOccurrenceService.materialize(schedule);
                 break;
         }
     }
 
+    // 반복 일정과 수정/삭제로 이어진 일정들을 이어진 일정 수와 상관없이 정해진 쿼리 수로 삭제
+    private void deleteSeries(Long scheduleId) {
+        Long rootId = scheduleRepository.findSeriesRootId(scheduleId);
+        List<Long> seriesIds = scheduleRepository.findSeriesIds(rootId);
+        List<Long> recurrenceIds = scheduleRepository.findRecurrenceIdsByIdIn(seriesIds);
+        List<Long> proposalIds = attendeeRepository.findProposalIdsByScheduleIdIn(seriesIds);
+        // 미리 생성된 반복, 참석자, 제안, 일정, 반복 규칙 순으로 삭제
+        scheduleOccurrenceService.remove(seriesIds);
+        attendeeRepository.deleteByScheduleIdIn(seriesIds);
+        if (!proposalIds.isEmpty()) {
+            proposalRepository.deleteByIdIn(proposalIds);
+        }
+        scheduleRepository.detachParentByIdIn(seriesIds);
+        scheduleRepository.deleteByIdIn(seriesIds);
+        if (!recurrenceIds.isEmpty()) {
+            recurrenceRepository.deleteByIdIn(recurrenceIds);
+        }
+    }
+
     @Override
     @Transactional
     public void decideAttendance(Long scheduleId, Integer memberId,
@@ -1207,8 +814,7 @@ public class SimpleScheduleService implements ScheduleService {
         Attendee attendee = attendeeRepository.findByScheduleIdAndMemberId(scheduleId, memberId)
             .orElseThrow();
         String reason = decideAttendanceRequest.getReason();
-        ZoneId zoneId = ZoneId.of(
-            memberTimezoneRepository.findById(memberId).orElseThrow().getZoneId());
+        ZoneId zoneId = memberTimezoneDirectory.getZoneId(memberId);
         AttendeeStatus status = decideAttendanceRequest.getStatus();
 
         if (status.equals(attendee.getStatus())) {
@@ -1216,7 +822,7 @@ public class SimpleScheduleService implements ScheduleService {
         }
 
         attendee.updateStatus(status, reason);
-        UserInfoResponse response = userServiceClient.getUserName(memberId);
+        memberScheduleCache.evictMembers(List.of(memberId));
         AttendeeResponseMessage message = AttendeeResponseMessage.builder()
             .occurredAt(AlterTimeUtils.InstantToUTCLocalDateTime(Instant.now()))
             .scheduleId(scheduleId)
@@ -1225,7 +831,6 @@ public class SimpleScheduleService implements ScheduleService {
             .endTime(AlterTimeUtils.InstantToUTCLocalDateTime(schedule.getEndDatetime()))
             .organizerId(schedule.getOrganizerId())
             .attendeeId(memberId)
-            .attendeeName(response != null ? response.getName() : null)
             .build();
 
         // 수락시
@@ -1242,7 +847,9 @@ public class SimpleScheduleService implements ScheduleService {
             message.setResponse(Response.DECLINED);
         }
 
-        kafkaProducer.send("attendee-response", message);
+        String attendeeName = getMemberName(memberId);
+        message.setAttendeeName(attendeeName);
+        outboxService.append("attendee-response", scheduleId, message);
 
         if (decideAttendanceRequest.getStartDatetime() != null) {
             LocalDateTime startLocalDatetime = decideAttendanceRequest.getStartDatetime();
@@ -1274,7 +881,6 @@ public class SimpleScheduleService implements ScheduleService {
                 .scheduleName(schedule.getName())
                 .organizerId(schedule.getOrganizerId())
                 .attendeeId(memberId)
-                .attendeeName(response != null ? response.getName() : null)
                 .startTime(AlterTimeUtils.InstantToUTCLocalDateTime(schedule.getStartDatetime()))
                 .endTime(AlterTimeUtils.InstantToUTCLocalDateTime(schedule.getEndDatetime()))
                 .proposalId(savedProposal.getId())
@@ -1287,7 +893,8 @@ public class SimpleScheduleService implements ScheduleService {
                     decideAttendanceRequest.getEndDatetime()))
                 .reason(decideAttendanceRequest.getReason())
                 .build();
-            kafkaProducer.send("attendee-proposal", proposalMessage);
+            proposalMessage.setAttendeeName(attendeeName);
+            outboxService.append("attendee-proposal", scheduleId, proposalMessage);
         }
     }
 
@@ -1319,9 +926,11 @@ public class SimpleScheduleService implements ScheduleService {
             Instant startInstant = proposal.getStartDatetime();
             Instant endInstant = proposal.getEndDatetime();
             schedule.changeScheduleTime(startInstant, endInstant);
+            // 회의 시간이 바뀌었으므로 주최자와 참석자 모두 기간별 조회 캐시 무효화
+            memberScheduleCache.evictMembers(List.of(schedule.getOrganizerId()));
+            memberScheduleCache.evictMembers(
+                attendeeList.stream().map(Attendee::getMemberId).toList());
             List<Integer> emptyList = new ArrayList<>();
-            // 회의 주체자 이름
-            UserInfoResponse response = userServiceClient.getUserName(memberId);
             LocalDateTime startLocalDatetime = AlterTimeUtils.InstantToUTCLocalDateTime(
                 startInstant);
             LocalDateTime endLocalDatetime = AlterTimeUtils.InstantToUTCLocalDateTime(endInstant);
@@ -1330,7 +939,6 @@ public class SimpleScheduleService implements ScheduleService {
                 .scheduleId(scheduleId)
                 .scheduleName(schedule.getName())
                 .organizerId(schedule.getOrganizerId())
-                .organizerName(response.getName())
                 .previousStartTime(AlterTimeUtils.InstantToUTCLocalDateTime(originalStartInstant))
                 .previousEndTime(AlterTimeUtils.InstantToUTCLocalDateTime(originalEndInstant))
                 .updatedStartTime(startLocalDatetime)
@@ -1344,7 +952,8 @@ public class SimpleScheduleService implements ScheduleService {
                 .updatedFields(List.of(UpdatedField.TIME))
                 .build();
             // 수정 사항 전송
-            kafkaProducer.send("meeting-updated", message);
+            message.setOrganizerName(getMemberName(memberId));
+            outboxService.append("meeting-updated", scheduleId, message);
             for (Attendee a : attendeeList) {
                 // 모두 pending 상태로 바꾸기
                 if (!Objects.equals(a.getMemberId(), memberId)) {
@@ -1360,6 +969,11 @@ public class SimpleScheduleService implements ScheduleService {
         }
     }
 
+    // 메시지에 넣을 사용자 이름, 쓰기 트랜잭션에서 쓰므로 저장된 정보만 보고 없으면 OutboxRelay 가 발행 전에 채운다
+    private String getMemberName(Integer memberId) {
+        return memberProfileService.getStoredName(memberId);
+    }
+
     // 주최자와 일치하는지 판단
     public void validateOrganizer(Schedule schedule, Integer memberId) {
         if (!Objects.equals(schedule.getOrganizerId(), memberId)) {
@@ -1367,58 +981,10 @@ public class SimpleScheduleService implements ScheduleService {
         }
     }
 
-    // 삭제된 일정 체크하기
-    public boolean isDeletedSchedule(List<DeletedSchedule> deleteScheduleList, Schedule s,
-        LocalDateTime startDatetime, LocalDateTime endDatetime, ZoneId zoneId) {
-        for (DeletedSchedule d : deleteScheduleList) {
-            if (d.getDeleteStartInstant()
-                .equals(AlterTimeUtils.LocalDateTimeToInstant(startDatetime, zoneId))
-                && d.getDeleteEndInstant()
-                .equals(AlterTimeUtils.LocalDateTimeToInstant(endDatetime, zoneId))
-                && Objects.equals(d.getParentScheduleId(), s.getId())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    // 수정된 일정 체크하기
-    public boolean isUpdatedSchedule(List<UpdatedSchedule> updatedScheduleList, Schedule s,
-        ZoneId zoneId, LocalDateTime startDatetime, LocalDateTime endDatetime) {
-
-        for (UpdatedSchedule u : updatedScheduleList) {
-            if (AlterTimeUtils.instantToLocalDateTime(u.getUpdateStartInstant(), zoneId)
-                .equals(startDatetime)
-                && AlterTimeUtils.instantToLocalDateTime(u.getUpdateEndInstant(), zoneId)
-                .equals(endDatetime)
-                && u.getParentScheduleId().equals(s.getId())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    // 조회 기간을 벗어나는 경우 체크하기
-    public boolean isOutOfPeriod(LocalDateTime startLocalDatetime, Instant startInstant,
-        LocalDateTime endLocalDatetime, Instant endInstant, ZoneId zoneId) {
-        return
-            !AlterTimeUtils.LocalDateTimeToInstant(startLocalDatetime, zoneId).isBefore(endInstant)
-                || !AlterTimeUtils.LocalDateTimeToInstant(endLocalDatetime, zoneId)
-                .isAfter(startInstant);
-    }
-
-    // 주 반복 요일 순서 정렬하기
-    public List<Integer> sortDayList(EnumSet<RecurrenceDayType> recurrenceDay, DayOfWeek startDay) {
-        List<Integer> dayList = new ArrayList<>();
-        PriorityQueue<Integer> dayQueue = new PriorityQueue<>();
-        for (RecurrenceDayType day : recurrenceDay) {
-            dayQueue.add(
-                day.ordinal() - startDay.ordinal() < 0 ? day.ordinal() - startDay.ordinal() + 7
-                    : day.ordinal() - startDay.ordinal());
-        }
-        while (!dayQueue.isEmpty()) {
-            dayList.add(dayQueue.poll());
-        }
-        return dayList;
+    // 삭제되거나 수정된 반복인지 체크하기
+    public boolean isModifiedOrDeletedOccurrence(Set<RecurrenceExceptionKey> recurrenceExceptions,
+        Schedule s, OccurrenceVO occurrence) {
+        return recurrenceExceptions.contains(
+            new RecurrenceExceptionKey(s.getId(), occurrence.startInstant()));
     }
 }
@@ -0,0 +1,108 @@
+package com.edgescheduler.scheduleservice.util;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * long[] 에 64개씩 묶어 저장한 비트 마스크 연산
+ * <p>
+ * 인덱스 i 의 비트는 bits[i / 64] 의 (i % 64) 번째 비트이다.
+ */
+@Component
+public class BitMaskUtils {
+
+    public static long[] create(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    public static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // [from, to) 비트를 1로 설정
+    public static void setRange(long[] bits, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int startWord = from >>> 6;
+        int endWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (startWord == endWord) {
+            bits[startWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[startWord] |= firstMask;
+        for (int i = startWord + 1; i < endWord; i++) {
+            bits[i] = -1L;
+        }
+        bits[endWord] |= lastMask;
+    }
+
+    // target 에 other 와의 AND 결과 저장
+    public static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= i < other.length ? other[i] : 0L;
+        }
+    }
+
+    // target 에서 other 의 1인 비트를 0으로
+    public static void andNot(long[] target, long[] other) {
+        for (int i = 0; i < Math.min(target.length, other.length); i++) {
+            target[i] &= ~other[i];
+        }
+    }
+
+    // [from, to) 에서 처음으로 1인 비트의 인덱스, 없으면 to
+    public static int nextSetBit(long[] bits, int from, int to) {
+        return nextBit(bits, from, to, 0L);
+    }
+
+    // [from, to) 에서 처음으로 0인 비트의 인덱스, 없으면 to
+    public static int nextClearBit(long[] bits, int from, int to) {
+        return nextBit(bits, from, to, -1L);
+    }
+
+    /**
+     * 길이 length 의 구간이 모두 1인 구간의 시작 인덱스 마스크
+     * <p>
+     * 1이 연속된 구간을 찾아 구간 길이가 length 이상이면 해당 구간 안에서 시작할 수 있는 인덱스를 모두 1로 설정한다.
+     *
+     * @param bits   비트 마스크
+     * @param size   비트 마스크의 크기
+     * @param length 구간 길이
+     * @return 인덱스 s 의 비트가 1이면 [s, s + length) 가 모두 1
+     */
+    public static long[] windowStarts(long[] bits, int size, int length) {
+        long[] starts = create(size);
+        int runStart = nextSetBit(bits, 0, size);
+        while (runStart < size) {
+            int runEnd = nextClearBit(bits, runStart, size);
+            if (runEnd - runStart >= length) {
+                setRange(starts, runStart, runEnd - length + 1);
+            }
+            runStart = nextSetBit(bits, runEnd, size);
+        }
+        return starts;
+    }
+
+    // flip 이 -1L 이면 0인 비트를, 0L 이면 1인 비트를 찾는다
+    private static int nextBit(long[] bits, int from, int to, long flip) {
+        if (from >= to) {
+            return to;
+        }
+        int wordIndex = from >>> 6;
+        if (wordIndex >= bits.length) {
+            return flip == 0L ? to : from;
+        }
+        long word = (bits[wordIndex] ^ flip) & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min((wordIndex << 6) + Long.numberOfTrailingZeros(word), to);
+            }
+            if (++wordIndex >= bits.length) {
+                return flip == 0L ? to : Math.min(wordIndex << 6, to);
+            }
+            word = bits[wordIndex] ^ flip;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.edgescheduler.scheduleservice.util;
+
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MessageMergeUtils {
+
+    /**
+     * 같은 회의의 연속된 수정 메시지를 하나로 합침
+     * <p>
+     * 시간은 처음 수정 이전 시간과 마지막 수정 이후 시간을, 이름 등 나머지 값은 마지막 메시지 값을 쓴다. 참석자는 처음 수정 이전 참석자와 마지막
+     * 수정 이후 참석자를 비교해 다시 계산하므로, 추가했다가 다시 제외한 참석자는 어느 목록에도 들어가지 않는다.
+     *
+     * @param updates 발생 순서대로 정렬된 수정 메시지
+     * @return 합친 메시지
+     */
+    public static MeetingUpdateMessage mergeMeetingUpdates(List<MeetingUpdateMessage> updates) {
+        MeetingUpdateMessage first = updates.get(0);
+        MeetingUpdateMessage last = updates.get(updates.size() - 1);
+        if (updates.size() == 1) {
+            return first;
+        }
+
+        Set<UpdatedField> updatedFields = new LinkedHashSet<>();
+        MeetingUpdateMessage timeChanged = null;
+        for (MeetingUpdateMessage update : updates) {
+            if (update.getUpdatedFields() != null) {
+                updatedFields.addAll(update.getUpdatedFields());
+            }
+            if (timeChanged == null && update.getPreviousStartTime() != null) {
+                timeChanged = update;
+            }
+        }
+
+        // 처음 수정 이전 참석자와 마지막 수정 이후 참석자
+        Set<Integer> before = new LinkedHashSet<>(nullToEmpty(first.getMaintainedAttendeeIds()));
+        before.addAll(nullToEmpty(first.getRemovedAttendeeIds()));
+        Set<Integer> after = new LinkedHashSet<>(nullToEmpty(last.getMaintainedAttendeeIds()));
+        after.addAll(nullToEmpty(last.getAddedAttendeeIds()));
+        List<Integer> maintained = new ArrayList<>();
+        List<Integer> added = new ArrayList<>();
+        for (Integer id : after) {
+            (before.contains(id) ? maintained : added).add(id);
+        }
+        List<Integer> removed = new ArrayList<>();
+        for (Integer id : before) {
+            if (!after.contains(id)) {
+                removed.add(id);
+            }
+        }
+
+        return MeetingUpdateMessage.builder()
+            .occurredAt(last.getOccurredAt())
+            .scheduleId(last.getScheduleId())
+            .scheduleName(last.getScheduleName())
+            .organizerId(last.getOrganizerId())
+            .organizerName(last.getOrganizerName())
+            .previousStartTime(timeChanged != null ? timeChanged.getPreviousStartTime() : null)
+            .previousEndTime(timeChanged != null ? timeChanged.getPreviousEndTime() : null)
+            .updatedStartTime(last.getUpdatedStartTime())
+            .updatedEndTime(last.getUpdatedEndTime())
+            .runningTime(last.getRunningTime())
+            .maintainedAttendeeIds(maintained)
+            .addedAttendeeIds(added)
+            .removedAttendeeIds(removed)
+            .updatedFields(new ArrayList<>(updatedFields))
+            .build();
+    }
+
+    private static List<Integer> nullToEmpty(List<Integer> ids) {
+        return ids != null ? ids : List.of();
+    }
+}
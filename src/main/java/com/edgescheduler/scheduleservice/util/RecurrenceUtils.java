@@ -0,0 +1,138 @@
+package com.edgescheduler.scheduleservice.util;
+
+import com.edgescheduler.scheduleservice.domain.Recurrence;
+import com.edgescheduler.scheduleservice.domain.RecurrenceDayType;
+import com.edgescheduler.scheduleservice.vo.OccurrenceVO;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RecurrenceUtils {
+
+    /**
+     * 반복 일정 중 조회 기간과 겹치는 반복만 생성
+     * <p>
+     * 시리즈 시작부터 순회하지 않고 조회 시작 직전의 반복 인덱스를 계산해서 바로 이동하므로, 비용은 시리즈의 길이가 아닌 조회 기간에
+     * 비례한다.
+     *
+     * @param recurrence  반복 정보
+     * @param seriesStart 첫 반복의 시작 시간
+     * @param seriesEnd   첫 반복의 종료 시간
+     * @param start       조회 시작 시간
+     * @param end         조회 종료 시간
+     * @param zoneId      조회하는 사람 기준의 시간대
+     * @return 조회 기간과 겹치는 반복 목록 (시작 시간 순)
+     */
+    public static List<OccurrenceVO> expandWithinPeriod(Recurrence recurrence,
+        Instant seriesStart, Instant seriesEnd, Instant start, Instant end, ZoneId zoneId) {
+
+        List<OccurrenceVO> occurrences = new ArrayList<>();
+        // 반복 시작이 조회 기간 이후인 경우
+        if (!seriesStart.isBefore(end)) {
+            return occurrences;
+        }
+        LocalDateTime firstStart = AlterTimeUtils.instantToLocalDateTime(seriesStart, zoneId);
+        LocalDateTime firstEnd = AlterTimeUtils.instantToLocalDateTime(seriesEnd, zoneId);
+        LocalDateTime periodStart = AlterTimeUtils.instantToLocalDateTime(start, zoneId);
+        Integer count = recurrence.getCount();
+        Instant expiredDate = recurrence.getExpiredDate();
+        long intv = recurrence.getIntv();
+
+        switch (recurrence.getFreq()) {
+            case DAILY:
+                for (long i = seekIndex(ChronoUnit.DAYS.between(firstEnd, periodStart), intv);
+                    count == null || i < count; i++) {
+                    if (!addIfWithinPeriod(occurrences, firstStart.plusDays(i * intv),
+                        firstEnd.plusDays(i * intv), start, end, expiredDate, zoneId)) {
+                        break;
+                    }
+                }
+                break;
+            case MONTHLY:
+                for (long i = seekIndex(ChronoUnit.MONTHS.between(firstEnd, periodStart), intv);
+                    count == null || i < count; i++) {
+                    if (!addIfWithinPeriod(occurrences, firstStart.plusMonths(i * intv),
+                        firstEnd.plusMonths(i * intv), start, end, expiredDate, zoneId)) {
+                        break;
+                    }
+                }
+                break;
+            default:
+                // 주 반복은 횟수(count)를 주 단위로 센다
+                List<Integer> dayList = sortDayList(recurrence.getRecurrenceDay(),
+                    firstStart.getDayOfWeek());
+                if (dayList.isEmpty()) {
+                    break;
+                }
+                weekly:
+                for (long i = seekIndex(ChronoUnit.WEEKS.between(firstEnd, periodStart), intv);
+                    count == null || i < count; i++) {
+                    LocalDateTime weekStart = firstStart.plusWeeks(i * intv);
+                    LocalDateTime weekEnd = firstEnd.plusWeeks(i * intv);
+                    for (Integer day : dayList) {
+                        if (!addIfWithinPeriod(occurrences, weekStart.plusDays(day),
+                            weekEnd.plusDays(day), start, end, expiredDate, zoneId)) {
+                            break weekly;
+                        }
+                    }
+                }
+                break;
+        }
+        return occurrences;
+    }
+
+    // 주 반복 요일을 시작 요일로부터의 일수로 바꿔 정렬하기
+    public static List<Integer> sortDayList(EnumSet<RecurrenceDayType> recurrenceDay,
+        DayOfWeek startDay) {
+        List<Integer> dayList = new ArrayList<>();
+        if (recurrenceDay == null) {
+            return dayList;
+        }
+        for (RecurrenceDayType day : recurrenceDay) {
+            int diff = day.ordinal() - startDay.ordinal();
+            dayList.add(diff < 0 ? diff + 7 : diff);
+        }
+        Collections.sort(dayList);
+        return dayList;
+    }
+
+    /*
+     * 첫 반복 종료 시점부터 조회 시작까지 지난 단위(일/주/월) 수로 조회 기간 직전의 반복 인덱스를 계산
+     * 주 반복의 요일 오프셋과 서머타임으로 인한 오차를 흡수하기 위해 한 주기 앞에서 시작한다.
+     */
+    private static long seekIndex(long elapsedUnits, long intv) {
+        return Math.max(0, elapsedUnits / intv - 1);
+    }
+
+    /*
+     * 조회 기간과 겹치는 반복이면 추가
+     * 반복 시작이 조회 종료 또는 반복 기한 이후라서 더 이상 생성할 반복이 없으면 false 를 반환한다.
+     */
+    private static boolean addIfWithinPeriod(List<OccurrenceVO> occurrences,
+        LocalDateTime startDatetime, LocalDateTime endDatetime, Instant start, Instant end,
+        Instant expiredDate, ZoneId zoneId) {
+        Instant startInstant = AlterTimeUtils.LocalDateTimeToInstant(startDatetime, zoneId);
+        if (!startInstant.isBefore(end)
+            || (expiredDate != null && !startInstant.isBefore(expiredDate))) {
+            return false;
+        }
+        Instant endInstant = AlterTimeUtils.LocalDateTimeToInstant(endDatetime, zoneId);
+        if (endInstant.isAfter(start)) {
+            occurrences.add(OccurrenceVO.builder()
+                .startDatetime(startDatetime)
+                .endDatetime(endDatetime)
+                .startInstant(startInstant)
+                .endInstant(endInstant)
+                .build());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,25 @@
+package com.edgescheduler.scheduleservice.vo;
+
+import com.edgescheduler.scheduleservice.domain.AttendeeStatus;
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import java.time.Instant;
+
+/**
+ * 참석자 기준으로 조회한 회의 일정과 참석 정보
+ */
+public record AttendingMeetingVO(
+    Integer memberId,
+    Long scheduleId,
+    Integer organizerId,
+    String name,
+    ScheduleType type,
+    Integer color,
+    Instant startDatetime,
+    Instant endDatetime,
+    Boolean isPublic,
+    Boolean isRequired,
+    AttendeeStatus status,
+    String reason
+) {
+
+}
@@ -0,0 +1,53 @@
+package com.edgescheduler.scheduleservice.vo;
+
+import com.edgescheduler.scheduleservice.util.BitMaskUtils;
+
+/**
+ * 한 사용자의 15분 구간 별 가용 여부를 비트로 표현
+ * <p>
+ * available 은 참여 가능한 구간(AVAILABLE, AVAILABLE_IN_WORKING_HOURS), workingHours 는 그 중 근무 시간인 구간이다.
+ * 두 마스크 모두 꺼져 있으면 일정이 있거나(UNAVAILABLE) 조회 범위 밖(BLOCKED)인 구간이다.
+ */
+public record AvailabilityMask(
+    int size,
+    long[] available,
+    long[] workingHours
+) {
+
+    public static AvailabilityMask of(IntervalStatus[] statuses) {
+        long[] available = BitMaskUtils.create(statuses.length);
+        long[] workingHours = BitMaskUtils.create(statuses.length);
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == IntervalStatus.AVAILABLE
+                || statuses[i] == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
+                BitMaskUtils.setRange(available, i, i + 1);
+            }
+            if (statuses[i] == IntervalStatus.AVAILABLE_IN_WORKING_HOURS) {
+                BitMaskUtils.setRange(workingHours, i, i + 1);
+            }
+        }
+        return new AvailabilityMask(statuses.length, available, workingHours);
+    }
+
+    // [from, to) 구간이 모두 참여 가능한지
+    public boolean isAvailableWithin(int from, int to) {
+        return BitMaskUtils.nextClearBit(available, from, to) == to;
+    }
+
+    // 응답용 구간 상태 배열로 변환, [from, to) 밖은 BLOCKED
+    public IntervalStatus[] toIntervalStatuses(int from, int to) {
+        IntervalStatus[] statuses = new IntervalStatus[size];
+        for (int i = 0; i < size; i++) {
+            if (i < from || i >= to) {
+                statuses[i] = IntervalStatus.BLOCKED;
+            } else if (BitMaskUtils.get(workingHours, i)) {
+                statuses[i] = IntervalStatus.AVAILABLE_IN_WORKING_HOURS;
+            } else if (BitMaskUtils.get(available, i)) {
+                statuses[i] = IntervalStatus.AVAILABLE;
+            } else {
+                statuses[i] = IntervalStatus.UNAVAILABLE;
+            }
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,15 @@
+package com.edgescheduler.scheduleservice.vo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record OccurrenceVO(
+    LocalDateTime startDatetime,
+    LocalDateTime endDatetime,
+    Instant startInstant,
+    Instant endInstant
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.edgescheduler.scheduleservice.vo;
+
+/**
+ * 일정 별 outbox 메시지 ID
+ */
+public record OutboxEventIdVO(
+    Long scheduleId,
+    Long eventId
+) {
+
+}
@@ -0,0 +1,30 @@
+package com.edgescheduler.scheduleservice.vo;
+
+import com.edgescheduler.scheduleservice.domain.AttendeeStatus;
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import lombok.Builder;
+
+/**
+ * 기간별 조회 결과 한 건 (시간대와 무관하게 epoch 초로 저장)
+ * <p>
+ * isOccurrence 는 반복 일정의 반복인지, isAttending 은 참석자로 조회된 회의인지 나타낸다. 참석 정보(isRequired, status,
+ * reason)는 isAttending 인 경우에만 존재한다.
+ */
+@Builder
+public record PeriodScheduleVO(
+    Long scheduleId,
+    Integer organizerId,
+    String name,
+    ScheduleType type,
+    Integer color,
+    Boolean isPublic,
+    long startEpochSecond,
+    long endEpochSecond,
+    boolean isOccurrence,
+    boolean isAttending,
+    Boolean isRequired,
+    AttendeeStatus status,
+    String reason
+) {
+
+}
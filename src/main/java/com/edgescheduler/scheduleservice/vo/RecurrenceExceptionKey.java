@@ -0,0 +1,16 @@
+package com.edgescheduler.scheduleservice.vo;
+
+import java.time.Instant;
+
+/**
+ * 반복 일정 중 수정 또는 삭제된 반복을 찾기 위한 키
+ *
+ * @param parentScheduleId 반복 일정 ID
+ * @param startInstant     수정 또는 삭제되기 전 반복의 시작 시간
+ */
+public record RecurrenceExceptionKey(
+    Long parentScheduleId,
+    Instant startInstant
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.edgescheduler.scheduleservice.vo;
+
+import lombok.Builder;
+
+// 토픽 별 누적 발행 통계, 지연 시간은 send 호출부터 브로커 응답까지
+@Builder
+public record TopicSendStats(
+    long sent,
+    long failed,
+    long totalLatencyMillis,
+    long maxLatencyMillis
+) {
+
+    public double averageLatencyMillis() {
+        long completed = sent + failed;
+        return completed == 0 ? 0 : (double) totalLatencyMillis / completed;
+    }
+}
@@ -0,0 +1,2 @@
+-- 기간만으로 일정을 찾는 조회가 없어서 쓰이지 않고 일정 쓰기 비용만 늘리는 인덱스
+drop index idx_schedule_end_start on schedule;
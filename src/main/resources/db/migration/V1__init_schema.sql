@@ -0,0 +1,72 @@
+-- ddl-auto: update 로 만들어진 기존 스키마, 이미 테이블이 있는 DB 는 이 버전을 기준(baseline)으로 시작한다
+
+create table proposal (
+    id             bigint      not null auto_increment,
+    start_datetime datetime(6) not null,
+    end_datetime   datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table recurrence (
+    id                 bigint                               not null auto_increment,
+    freq               enum ('DAILY','WEEKLY','MONTHLY')    not null,
+    intv               integer                              not null,
+    expired_date       datetime(6),
+    count              integer,
+    recurrence_day     varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+create table schedule (
+    id                    bigint                                 not null auto_increment,
+    organizer_id          integer                                not null,
+    name                  varchar(255)                           not null,
+    description           varchar(255),
+    type                  enum ('MEETING','WORKING','PERSONAL')  not null,
+    color                 integer                                not null,
+    start_datetime        datetime(6)                            not null,
+    end_datetime          datetime(6)                            not null,
+    google_calendar_id    varchar(255),
+    is_public             bit                                    not null,
+    is_deleted            bit default false                      not null,
+    recurrence_id         bigint,
+    parent_schedule_id    bigint,
+    parent_start_datetime datetime(6),
+    parent_end_datetime   datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create table attendee (
+    id          bigint                                  not null auto_increment,
+    schedule_id bigint                                  not null,
+    member_id   integer                                 not null,
+    is_required bit                                     not null,
+    status      enum ('ACCEPTED','DECLINED','PENDING')  not null,
+    reason      varchar(255),
+    proposal_id bigint,
+    primary key (id)
+) engine = InnoDB;
+
+create table member_timezone (
+    id      integer not null,
+    zone_id varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+alter table attendee
+    add constraint uk_attendee_proposal unique (proposal_id);
+
+alter table schedule
+    add constraint uk_schedule_recurrence unique (recurrence_id);
+
+alter table attendee
+    add constraint fk_attendee_proposal foreign key (proposal_id) references proposal (id);
+
+alter table attendee
+    add constraint fk_attendee_schedule foreign key (schedule_id) references schedule (id);
+
+alter table schedule
+    add constraint fk_schedule_parent foreign key (parent_schedule_id) references schedule (id);
+
+alter table schedule
+    add constraint fk_schedule_recurrence foreign key (recurrence_id) references recurrence (id);
@@ -0,0 +1,21 @@
+-- 회의 외 반복 일정의 반복을 미리 생성해 두는 테이블과 생성된 범위
+
+create table schedule_occurrence (
+    id             bigint                                 not null auto_increment,
+    schedule_id    bigint                                 not null,
+    member_id      integer                                not null,
+    type           enum ('MEETING','WORKING','PERSONAL')  not null,
+    start_datetime datetime(6)                            not null,
+    end_datetime   datetime(6)                            not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_schedule_occurrence_member_start on schedule_occurrence (member_id, start_datetime);
+
+create index idx_schedule_occurrence_schedule on schedule_occurrence (schedule_id);
+
+alter table recurrence
+    add column materialized_from datetime(6);
+
+alter table recurrence
+    add column materialized_until datetime(6);
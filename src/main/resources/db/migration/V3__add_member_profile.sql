@@ -0,0 +1,11 @@
+-- user-service 의 사용자 정보를 이벤트로 받아 두는 로컬 프로젝션
+
+create table member_profile (
+    id         integer not null,
+    name       varchar(255),
+    profile    integer,
+    department varchar(255),
+    region     varchar(255),
+    zone_id    varchar(255),
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,11 @@
+-- 일정 변경과 같은 트랜잭션에 저장하고 OutboxRelay 가 발행하는 메시지
+
+create table outbox_event (
+    id           bigint       not null auto_increment,
+    schedule_id  bigint       not null,
+    topic        varchar(255) not null,
+    payload_type varchar(255) not null,
+    payload      text         not null,
+    created_at   datetime(6)  not null,
+    primary key (id)
+) engine = InnoDB;
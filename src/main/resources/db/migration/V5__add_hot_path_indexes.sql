@@ -0,0 +1,12 @@
+-- 사용자들이 참여 중인 회의 조회 (member_id IN (...) / member_id = ? AND status = 'ACCEPTED' 후 schedule 조인)
+create index idx_attendee_member_status_schedule on attendee (member_id, status, schedule_id);
+
+-- 사용자들의 회의 외 일정 조회 (organizer_id IN (...) AND type <> 'MEETING' AND is_deleted = false AND start_datetime <= ?)
+create index idx_schedule_organizer_type_deleted_start
+    on schedule (organizer_id, type, is_deleted, start_datetime);
+
+-- 반복에서 수정/삭제된 일정과 다음 반복 조회 (parent_schedule_id = ? ORDER BY start_datetime)
+create index idx_schedule_parent_start on schedule (parent_schedule_id, start_datetime);
+
+-- 기간과 겹치는 일정 조회 (end_datetime > ? AND start_datetime < ?)
+create index idx_schedule_end_start on schedule (end_datetime, start_datetime);
@@ -0,0 +1,26 @@
+-- IDENTITY 대신 allocationSize 50 인 pooled 생성기를 쓰기 위한 시퀀스 테이블
+-- pooled 최적화는 읽은 값에서 49 를 뺀 값부터 쓰므로 기존 최대 ID + 50 으로 시작한다
+
+create table attendee_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into attendee_seq select coalesce(max(id), 0) + 50 from attendee;
+
+create table schedule_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into schedule_seq select coalesce(max(id), 0) + 50 from schedule;
+
+create table recurrence_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into recurrence_seq select coalesce(max(id), 0) + 50 from recurrence;
+
+create table proposal_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into proposal_seq select coalesce(max(id), 0) + 50 from proposal;
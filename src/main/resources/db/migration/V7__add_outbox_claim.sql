@@ -0,0 +1,3 @@
+-- 발행 중인 메시지를 다른 인스턴스가 가져가지 않도록 잡아 두는 기한
+alter table outbox_event
+    add column claimed_until datetime(6);
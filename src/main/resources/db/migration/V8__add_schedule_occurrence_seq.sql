@@ -0,0 +1,8 @@
+-- 미리 생성하는 반복도 JDBC 배치로 저장하도록 IDENTITY 대신 pooled 생성기를 쓰기 위한 시퀀스 테이블
+-- pooled 최적화는 읽은 값에서 49 를 뺀 값부터 쓰므로 기존 최대 ID + 50 으로 시작한다
+
+create table schedule_occurrence_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into schedule_occurrence_seq select coalesce(max(id), 0) + 50 from schedule_occurrence;
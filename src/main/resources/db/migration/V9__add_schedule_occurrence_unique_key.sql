@@ -0,0 +1,18 @@
+-- 같은 반복이 두 번 생성되지 않도록 (schedule_id, start_datetime) 을 유일하게 하고, 이미 있는 반복은 INSERT IGNORE 로 건너뛴다
+-- 생성 범위를 동시에 갱신해도 덮어쓰지 않도록 반복 규칙에 버전을 둔다
+
+-- 이미 중복으로 생성된 반복은 먼저 저장된 것만 남긴다
+delete from schedule_occurrence
+where id not in (select keep_id
+                 from (select min(id) as keep_id
+                       from schedule_occurrence
+                       group by schedule_id, start_datetime) kept);
+
+alter table schedule_occurrence
+    add constraint uk_schedule_occurrence_schedule_start unique (schedule_id, start_datetime);
+
+-- 유일 키가 schedule_id 로 시작하므로 schedule_id 인덱스는 필요 없다
+drop index idx_schedule_occurrence_schedule on schedule_occurrence;
+
+alter table recurrence
+    add column version bigint default 0 not null;
@@ -0,0 +1,156 @@
+package com.edgescheduler.scheduleservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.vo.PeriodScheduleVO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberScheduleCacheTest {
+
+    private MemberScheduleCache memberScheduleCache;
+    private List<Instant> loadedWeeks;
+
+    @BeforeEach
+    void setUp() {
+        memberScheduleCache = new MemberScheduleCache(100, Duration.ofMinutes(10),
+            Duration.ofSeconds(10));
+        loadedWeeks = new ArrayList<>();
+    }
+
+    @DisplayName("같은 주를 다시 조회하면 캐시에서 조회")
+    @Test
+    void cacheHitTest() {
+        Instant start = Instant.parse("2024-05-07T00:00:00Z");
+        Instant end = Instant.parse("2024-05-09T00:00:00Z");
+
+        memberScheduleCache.getSchedules(List.of(1, 2), start, end, this::load);
+        Map<Integer, List<PeriodScheduleVO>> result = memberScheduleCache.getSchedules(
+            List.of(1, 2), start, end, this::load);
+
+        assertEquals(List.of(Instant.parse("2024-05-06T00:00:00Z")), loadedWeeks);
+        assertEquals(1, result.get(1).size());
+        assertEquals(2, memberScheduleCache.stats().hitCount());
+        assertEquals(2, memberScheduleCache.stats().missCount());
+    }
+
+    @DisplayName("무효화한 사용자만 최근에 쓴 사용자로 보고 기간이 지나면 풀림")
+    @Test
+    void recentlyWrittenTest() throws Exception {
+        MemberScheduleCache shortWindowCache = new MemberScheduleCache(100,
+            Duration.ofMinutes(10), Duration.ofMillis(50));
+
+        shortWindowCache.evictMembers(List.of(2));
+
+        assertTrue(shortWindowCache.isRecentlyWritten(2));
+        assertFalse(shortWindowCache.isRecentlyWritten(1));
+        Thread.sleep(100);
+        assertFalse(shortWindowCache.isRecentlyWritten(2));
+    }
+
+    @DisplayName("무효화된 사용자만 다시 조회")
+    @Test
+    void evictMembersTest() {
+        Instant start = Instant.parse("2024-05-07T00:00:00Z");
+        Instant end = Instant.parse("2024-05-09T00:00:00Z");
+        memberScheduleCache.getSchedules(List.of(1, 2), start, end, this::load);
+
+        memberScheduleCache.evictMembers(List.of(2));
+        List<Collection<Integer>> loadedMemberIds = new ArrayList<>();
+        memberScheduleCache.getSchedules(List.of(1, 2), start, end,
+            (memberIds, weekStart, weekEnd) -> {
+                loadedMemberIds.add(List.copyOf(memberIds));
+                return load(memberIds, weekStart, weekEnd);
+            });
+
+        assertEquals(List.of(List.of(2)), loadedMemberIds);
+    }
+
+    @DisplayName("무효화된 사용자는 한 번만 전달하고 전달받은 무효화는 다시 전달하지 않음")
+    @Test
+    void drainUnsentMembersTest() {
+        memberScheduleCache.evictMembers(List.of(1, 2));
+        memberScheduleCache.evictMembers(List.of(2));
+
+        assertEquals(Set.of(1, 2), Set.copyOf(memberScheduleCache.drainUnsentMembers()));
+        assertTrue(memberScheduleCache.drainUnsentMembers().isEmpty());
+
+        memberScheduleCache.evictLocally(List.of(3));
+        assertTrue(memberScheduleCache.drainUnsentMembers().isEmpty());
+        assertTrue(memberScheduleCache.isRecentlyWritten(3));
+    }
+
+    @DisplayName("두 주에 걸친 일정은 한 번만 조회")
+    @Test
+    void scheduleAcrossWeeksTest() {
+        PeriodScheduleVO acrossWeeks = schedule(1L, Instant.parse("2024-05-12T22:00:00Z"),
+            Instant.parse("2024-05-13T02:00:00Z"));
+
+        Map<Integer, List<PeriodScheduleVO>> result = memberScheduleCache.getSchedules(
+            List.of(1), Instant.parse("2024-05-12T00:00:00Z"),
+            Instant.parse("2024-05-14T00:00:00Z"),
+            (memberIds, weekStart, weekEnd) -> {
+                loadedWeeks.add(weekStart);
+                return Map.of(1, List.of(acrossWeeks));
+            });
+
+        assertEquals(List.of(Instant.parse("2024-05-06T00:00:00Z"),
+            Instant.parse("2024-05-13T00:00:00Z")), loadedWeeks);
+        assertEquals(List.of(acrossWeeks), result.get(1));
+    }
+
+    @DisplayName("조회 중에 무효화되면 조회 결과를 캐시하지 않음")
+    @Test
+    void evictedWhileLoadingTest() {
+        Instant start = Instant.parse("2024-05-07T00:00:00Z");
+        Instant end = Instant.parse("2024-05-09T00:00:00Z");
+
+        memberScheduleCache.getSchedules(List.of(1), start, end,
+            (memberIds, weekStart, weekEnd) -> {
+                memberScheduleCache.evictMembers(List.of(1));
+                return load(memberIds, weekStart, weekEnd);
+            });
+        memberScheduleCache.getSchedules(List.of(1), start, end, this::load);
+
+        assertEquals(2, loadedWeeks.size());
+        assertEquals(0, memberScheduleCache.stats().hitCount());
+    }
+
+    // 사용자마다 주 시작 다음 날 09:00 부터 한 시간 일정 하나
+    private Map<Integer, List<PeriodScheduleVO>> load(Collection<Integer> memberIds,
+        Instant weekStart, Instant weekEnd) {
+        loadedWeeks.add(weekStart);
+        Map<Integer, List<PeriodScheduleVO>> schedules = new HashMap<>();
+        for (Integer memberId : memberIds) {
+            Instant start = weekStart.plus(Duration.ofHours(33));
+            schedules.put(memberId,
+                List.of(schedule(memberId.longValue(), start, start.plus(Duration.ofHours(1)))));
+        }
+        return schedules;
+    }
+
+    private static PeriodScheduleVO schedule(Long scheduleId, Instant start, Instant end) {
+        return PeriodScheduleVO.builder()
+            .scheduleId(scheduleId)
+            .organizerId(1)
+            .name("일정")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .isPublic(true)
+            .startEpochSecond(start.getEpochSecond())
+            .endEpochSecond(end.getEpochSecond())
+            .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.edgescheduler.scheduleservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import com.edgescheduler.scheduleservice.exception.ApplicationException;
+import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberTimezoneDirectoryTest {
+
+    @Mock
+    private MemberTimezoneRepository memberTimezoneRepository;
+
+    @Mock
+    private MemberScheduleCache memberScheduleCache;
+
+    @InjectMocks
+    private MemberTimezoneDirectory memberTimezoneDirectory;
+
+    @DisplayName("메모리에 없는 사용자만 한 번에 조회")
+    @Test
+    void getZoneIdsOnlyLoadsMissingTest() {
+        memberTimezoneDirectory.put(new MemberTimezone(1, "Asia/Seoul"));
+        given(memberTimezoneRepository.findAllById(List.of(2, 3))).willReturn(List.of(
+            new MemberTimezone(2, "Asia/Seoul"), new MemberTimezone(3, "Europe/Paris")));
+
+        Map<Integer, ZoneId> zoneIds = memberTimezoneDirectory.getZoneIds(List.of(1, 2, 3));
+
+        assertEquals(ZoneId.of("Europe/Paris"), zoneIds.get(3));
+        // 같은 시간대는 같은 인스턴스를 공유
+        assertSame(zoneIds.get(1), zoneIds.get(2));
+        // 한 번 조회한 사용자는 다시 DB 를 거치지 않음
+        assertEquals(ZoneId.of("Europe/Paris"), memberTimezoneDirectory.getZoneId(3));
+        verify(memberTimezoneRepository, never()).findById(3);
+    }
+
+    @DisplayName("시간대가 없는 사용자가 있으면 예외")
+    @Test
+    void missingTimezoneTest() {
+        given(memberTimezoneRepository.findAllById(List.of(4))).willReturn(List.of());
+        given(memberTimezoneRepository.findById(5)).willReturn(Optional.empty());
+
+        assertThrows(ApplicationException.class,
+            () -> memberTimezoneDirectory.getZoneIds(List.of(4)));
+        assertThrows(ApplicationException.class, () -> memberTimezoneDirectory.getZoneId(5));
+    }
+
+    @DisplayName("시간대를 바꾸면 바뀐 시간대로 조회")
+    @Test
+    void putTest() {
+        memberTimezoneDirectory.put(new MemberTimezone(6, "Asia/Seoul"));
+        memberTimezoneDirectory.put(new MemberTimezone(6, "America/New_York"));
+
+        assertEquals(ZoneId.of("America/New_York"), memberTimezoneDirectory.getZoneId(6));
+    }
+
+    @DisplayName("다른 인스턴스가 바꾼 시간대를 DB 에서 다시 읽고 바뀐 사용자만 캐시 무효화")
+    @Test
+    void refreshTest() {
+        memberTimezoneDirectory.put(new MemberTimezone(7, "Asia/Seoul"));
+        memberTimezoneDirectory.put(new MemberTimezone(8, "Asia/Seoul"));
+        given(memberTimezoneRepository.findAll()).willReturn(List.of(
+            new MemberTimezone(7, "Asia/Seoul"), new MemberTimezone(8, "Europe/Paris")));
+
+        memberTimezoneDirectory.refresh();
+
+        assertEquals(ZoneId.of("Europe/Paris"), memberTimezoneDirectory.getZoneId(8));
+        verify(memberScheduleCache).evictMembers(List.of(8));
+    }
+}
@@ -0,0 +1,94 @@
+package com.edgescheduler.scheduleservice.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+class UserServiceClientTest {
+
+    private UserServiceStubServer server;
+    private ConnectionProvider connectionProvider;
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new UserServiceStubServer();
+        for (int id = 1; id <= 20; id++) {
+            server.addUser(id, "user" + id);
+        }
+        // 테스트마다 만든 연결을 끝날 때 정리하도록 연결 풀을 따로 둔다
+        connectionProvider = ConnectionProvider.create("user-service-test");
+        userServiceClient = new UserServiceClient(WebClient.builder().clientConnector(
+            new ReactorClientHttpConnector(HttpClient.create(connectionProvider))),
+            server.baseUrl(), 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.close();
+    }
+
+    @DisplayName("여러 사용자를 조회하고 다시 조회하면 캐시에서 조회")
+    @Test
+    void getUsersTest() {
+        List<Integer> ids = List.of(1, 2, 3, 4, 5, 5);
+
+        Map<Integer, UserInfoResponse> users = userServiceClient.getUsers(ids);
+        Map<Integer, UserInfoResponse> cachedUsers = userServiceClient.getUsers(ids);
+
+        assertEquals(5, users.size());
+        assertEquals("user3", users.get(3).getName());
+        assertEquals(5, cachedUsers.size());
+        // 중복된 사용자는 한 번만 조회
+        assertEquals(5, server.requestCount());
+        assertEquals(5, userServiceClient.stats().hitCount());
+    }
+
+    @DisplayName("캐시에 없는 사용자만 조회")
+    @Test
+    void getOnlyMissingUsersTest() {
+        userServiceClient.getUserName(1);
+
+        userServiceClient.getUsers(List.of(1, 2, 3));
+
+        assertEquals(3, server.requestCount());
+    }
+
+    @DisplayName("조회에 실패한 사용자는 결과에서 제외")
+    @Test
+    void missingUserTest() {
+        Map<Integer, UserInfoResponse> users = userServiceClient.getUsers(List.of(1, 404));
+
+        assertEquals(1, users.size());
+        assertFalse(users.containsKey(404));
+        assertNull(userServiceClient.getUserName(404));
+    }
+
+    @DisplayName("bulk-uri 가 설정되어 있으면 한 번의 요청으로 조회")
+    @Test
+    void bulkUriTest() {
+        ReflectionTestUtils.setField(userServiceClient, "bulkUri", "/members?ids={ids}");
+
+        Map<Integer, UserInfoResponse> users = userServiceClient.getUsers(List.of(1, 2, 3, 404));
+
+        assertEquals(3, users.size());
+        assertEquals("user2", users.get(2).getName());
+        assertEquals(1, server.requestCount());
+    }
+}
@@ -0,0 +1,90 @@
+package com.edgescheduler.scheduleservice.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 user-service
+ * <p>
+ * GET /members/{id} 와 GET /members?ids=1,2,3 에 등록된 사용자 이름을 JSON 으로 응답하고, 받은 요청 수를 센다.
+ */
+class UserServiceStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    UserServiceStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/members", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    void addUser(Integer id, String name) {
+        names.put(id, name);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        // 요청 처리 스레드가 남아 있으면 테스트 JVM 이 끝나지 않는다
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        if (path.equals("/members") && query != null && query.startsWith("ids=")) {
+            List<String> users = new ArrayList<>();
+            Arrays.stream(query.substring(4).split(","))
+                .map(Integer::valueOf)
+                .filter(names::containsKey)
+                .forEach(id -> users.add(toJson(id)));
+            respond(exchange, 200, "[" + String.join(",", users) + "]");
+            return;
+        }
+        Integer id = Integer.valueOf(path.substring(path.lastIndexOf('/') + 1));
+        if (!names.containsKey(id)) {
+            respond(exchange, 404, "{}");
+            return;
+        }
+        respond(exchange, 200, toJson(id));
+    }
+
+    private String toJson(Integer id) {
+        return "{\"id\":" + id + ",\"name\":\"" + names.get(id) + "\",\"zoneId\":\"Asia/Seoul\"}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
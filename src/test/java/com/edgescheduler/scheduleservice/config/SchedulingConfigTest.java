@@ -0,0 +1,64 @@
+package com.edgescheduler.scheduleservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+class SchedulingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(TaskSchedulingAutoConfiguration.class))
+        .withUserConfiguration(SchedulingConfig.class, Jobs.class);
+
+    @DisplayName("기본 스케줄러의 작업이 끝나지 않아도 아웃박스 발행과 복제 지연 확인은 계속 실행")
+    @Test
+    void dedicatedSchedulersTest() {
+        contextRunner.run(context -> {
+            Jobs jobs = context.getBean(Jobs.class);
+            try {
+                assertTrue(jobs.blocking.await(5, TimeUnit.SECONDS));
+                Thread.sleep(200);
+
+                assertTrue(jobs.relayRuns.get() > 1);
+                assertTrue(jobs.lagCheckRuns.get() > 1);
+            } finally {
+                jobs.release.countDown();
+            }
+        });
+    }
+
+    @EnableScheduling
+    static class Jobs {
+
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger relayRuns = new AtomicInteger();
+        final AtomicInteger lagCheckRuns = new AtomicInteger();
+
+        // 오래 걸리는 반복 생성 같은 작업
+        @Scheduled(fixedDelay = 10)
+        void block() throws InterruptedException {
+            blocking.countDown();
+            release.await(10, TimeUnit.SECONDS);
+        }
+
+        @Scheduled(fixedDelay = 10, scheduler = "outboxRelayScheduler")
+        void relay() {
+            relayRuns.incrementAndGet();
+        }
+
+        @Scheduled(fixedDelay = 10, scheduler = "replicaLagCheckScheduler")
+        void checkLag() {
+            lagCheckRuns.incrementAndGet();
+        }
+    }
+}
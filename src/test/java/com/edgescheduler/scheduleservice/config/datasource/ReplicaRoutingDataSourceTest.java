@@ -0,0 +1,99 @@
+package com.edgescheduler.scheduleservice.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        replica = new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+        for (DriverManagerDataSource dataSource : new DriverManagerDataSource[]{primary, replica}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("DROP TABLE IF EXISTS instance");
+            jdbcTemplate.execute("CREATE TABLE instance (name VARCHAR(16))");
+            jdbcTemplate.update("INSERT INTO instance VALUES (?)",
+                dataSource == primary ? "primary" : "replica");
+        }
+        new JdbcTemplate(replica).execute("DROP TABLE IF EXISTS replica_lag");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @DisplayName("읽기 전용 트랜잭션만 레플리카로 보냄")
+    @Test
+    void routeReadOnlyTransactionToReplicaTest() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica);
+        checker(replica, routing).check();
+
+        assertTrue(routing.isReplicaAvailable());
+        assertEquals("replica", currentInstance(routing, true));
+        assertEquals("primary", currentInstance(routing, false));
+    }
+
+    @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 프라이머리로 보냄")
+    @Test
+    void fallbackToPrimaryOnLagTest() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica);
+        ReplicaLagChecker checker = checker(replica, routing);
+        checker.check();
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        checker.check();
+        assertFalse(routing.isReplicaAvailable());
+        assertEquals("primary", currentInstance(routing, true));
+
+        // 따라잡으면 다시 레플리카 사용
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 1");
+        checker.check();
+        assertEquals("replica", currentInstance(routing, true));
+    }
+
+    @DisplayName("레플리카에 연결할 수 없으면 프라이머리로 보냄")
+    @Test
+    void fallbackToPrimaryOnFailureTest() {
+        DriverManagerDataSource unreachable = new DriverManagerDataSource(
+            "jdbc:h2:mem:routing-unreachable;IFEXISTS=TRUE");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, unreachable);
+        // 상태 확인 이후에 레플리카가 내려간 경우
+        routing.setReplicaAvailable(true);
+
+        assertEquals("primary", currentInstance(routing, true));
+        assertFalse(routing.isReplicaAvailable());
+
+        // 상태 확인도 실패하므로 계속 프라이머리 사용
+        checker(unreachable, routing).check();
+        assertFalse(routing.isReplicaAvailable());
+    }
+
+    private ReplicaLagChecker checker(DataSource replica, ReplicaRoutingDataSource routing) {
+        return new ReplicaLagChecker(replica, routing, "SELECT seconds FROM replica_lag",
+            Duration.ofSeconds(5));
+    }
+
+    // 서비스와 같이 트랜잭션 매니저를 거쳐 조회한 DB
+    private String currentInstance(ReplicaRoutingDataSource routing, boolean readOnly) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+            new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+            .queryForObject("SELECT name FROM instance", String.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.edgescheduler.scheduleservice.config.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+// JSON 과 압축 바이너리 형식의 크기와 직렬화 속도 비교, 속도는 로그로만 남긴다
+@Slf4j
+class CompactMessageBenchmarkTest {
+
+    private static final int ITERATIONS = 2_000;
+
+    private final Serializer<KafkaEventMessage> json = new JsonSerializer<>();
+    private final Serializer<KafkaEventMessage> compact = new CompactMessageSerializer();
+
+    @DisplayName("참석자가 많은 회의 수정 메시지의 크기와 직렬화 속도")
+    @Test
+    void largeMeetingUpdateTest() {
+        MeetingUpdateMessage message = largeMeetingUpdate(300);
+
+        int jsonSize = json.serialize("meeting-updated", message).length;
+        int compactSize = compact.serialize("meeting-updated", message).length;
+        long jsonNanos = measure(json, message);
+        long compactNanos = measure(compact, message);
+
+        log.info("json: {} bytes, {} msg/s / compact: {} bytes, {} msg/s", jsonSize,
+            ITERATIONS * 1_000_000_000L / jsonNanos, compactSize,
+            ITERATIONS * 1_000_000_000L / compactNanos);
+        assertTrue(compactSize * 3 < jsonSize);
+    }
+
+    private long measure(Serializer<KafkaEventMessage> serializer, KafkaEventMessage message) {
+        // JIT 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize("meeting-updated", message);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize("meeting-updated", message);
+        }
+        return Math.max(System.nanoTime() - start, 1);
+    }
+
+    private MeetingUpdateMessage largeMeetingUpdate(int attendees) {
+        LocalDateTime start = LocalDateTime.of(2024, 5, 2, 10, 0);
+        return MeetingUpdateMessage.builder()
+            .occurredAt(LocalDateTime.of(2024, 5, 1, 9, 0))
+            .scheduleId(123_456L)
+            .scheduleName("전사 회의")
+            .organizerId(1_001)
+            .organizerName("김철수")
+            .previousStartTime(start)
+            .previousEndTime(start.plusHours(1))
+            .updatedStartTime(start.plusHours(2))
+            .updatedEndTime(start.plusHours(3))
+            .runningTime(60)
+            .maintainedAttendeeIds(ids(10_000, attendees))
+            .addedAttendeeIds(ids(20_000, attendees / 10))
+            .removedAttendeeIds(ids(30_000, attendees / 10))
+            .updatedFields(List.of(UpdatedField.TIME))
+            .build();
+    }
+
+    private List<Integer> ids(int from, int count) {
+        return IntStream.range(from, from + count).boxed().toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.edgescheduler.scheduleservice.config.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.edgescheduler.scheduleservice.config.deserializer.CompactMessageDeserializer;
+import com.edgescheduler.scheduleservice.message.AttendeeProposalMessage;
+import com.edgescheduler.scheduleservice.message.AttendeeResponseMessage;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MeetingCreateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingDeleteMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
+import com.edgescheduler.scheduleservice.message.Response;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CompactMessageCodecTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2024, 5, 1, 9, 0, 30);
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 2, 10, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 5, 2, 11, 0);
+
+    private final CompactMessageSerializer serializer = new CompactMessageSerializer();
+    private final CompactMessageDeserializer deserializer = new CompactMessageDeserializer();
+
+    @SuppressWarnings("unchecked")
+    private <T extends KafkaEventMessage> T roundTrip(T message) {
+        return (T) deserializer.deserialize("topic", serializer.serialize("topic", message));
+    }
+
+    @Nested
+    @DisplayName("메시지 별 직렬화 후 역직렬화")
+    class RoundTrip {
+
+        @DisplayName("회의 생성")
+        @Test
+        void meetingCreateTest() {
+            MeetingCreateMessage message = MeetingCreateMessage.builder()
+                .occurredAt(OCCURRED_AT).scheduleId(1L).scheduleName("주간 회의")
+                .organizerId(3).organizerName("김철수").startTime(START).endTime(END)
+                .runningTime(60).attendeeIds(List.of(5, 3, 100, 7)).build();
+
+            MeetingCreateMessage read = roundTrip(message);
+
+            assertEquals(OCCURRED_AT, read.getOccurredAt());
+            assertEquals(1L, read.getScheduleId());
+            assertEquals("주간 회의", read.getScheduleName());
+            assertEquals(3, read.getOrganizerId());
+            assertEquals("김철수", read.getOrganizerName());
+            assertEquals(START, read.getStartTime());
+            assertEquals(END, read.getEndTime());
+            assertEquals(60, read.getRunningTime());
+            // 정렬되지 않은 ID 도 순서대로 복원
+            assertEquals(List.of(5, 3, 100, 7), read.getAttendeeIds());
+        }
+
+        @DisplayName("회의 수정, 변경되지 않은 시간은 null 로 유지")
+        @Test
+        void meetingUpdateTest() {
+            MeetingUpdateMessage message = MeetingUpdateMessage.builder()
+                .occurredAt(OCCURRED_AT).scheduleId(Long.MAX_VALUE / 2).scheduleName("회의")
+                .organizerId(1).updatedStartTime(START).updatedEndTime(END).runningTime(60)
+                .maintainedAttendeeIds(List.of(1, 2, 3)).addedAttendeeIds(List.of())
+                .removedAttendeeIds(List.of(Integer.MAX_VALUE, Integer.MIN_VALUE))
+                .updatedFields(List.of(UpdatedField.TITLE, UpdatedField.DESCRIPTION)).build();
+
+            MeetingUpdateMessage read = roundTrip(message);
+
+            assertEquals(Long.MAX_VALUE / 2, read.getScheduleId());
+            assertNull(read.getOrganizerName());
+            assertNull(read.getPreviousStartTime());
+            assertNull(read.getPreviousEndTime());
+            assertEquals(START, read.getUpdatedStartTime());
+            assertEquals(END, read.getUpdatedEndTime());
+            assertEquals(List.of(1, 2, 3), read.getMaintainedAttendeeIds());
+            assertEquals(List.of(), read.getAddedAttendeeIds());
+            assertEquals(List.of(Integer.MAX_VALUE, Integer.MIN_VALUE),
+                read.getRemovedAttendeeIds());
+            assertEquals(List.of(UpdatedField.TITLE, UpdatedField.DESCRIPTION),
+                read.getUpdatedFields());
+        }
+
+        @DisplayName("회의 삭제")
+        @Test
+        void meetingDeleteTest() {
+            MeetingDeleteMessage message = MeetingDeleteMessage.builder()
+                .occurredAt(OCCURRED_AT).scheduleId(2L).organizerId(1).startTime(START)
+                .endTime(END).attendeeIds(null).build();
+
+            MeetingDeleteMessage read = roundTrip(message);
+
+            assertEquals(2L, read.getScheduleId());
+            assertNull(read.getScheduleName());
+            assertNull(read.getAttendeeIds());
+        }
+
+        @DisplayName("참석 응답")
+        @Test
+        void attendeeResponseTest() {
+            AttendeeResponseMessage message = AttendeeResponseMessage.builder()
+                .occurredAt(OCCURRED_AT).scheduleId(3L).scheduleName("회의").startTime(START)
+                .endTime(END).organizerId(1).attendeeId(2).attendeeName("이영희")
+                .response(Response.DECLINED).build();
+
+            AttendeeResponseMessage read = roundTrip(message);
+
+            assertEquals(2, read.getAttendeeId());
+            assertEquals("이영희", read.getAttendeeName());
+            assertEquals(Response.DECLINED, read.getResponse());
+        }
+
+        @DisplayName("일정 제안")
+        @Test
+        void attendeeProposalTest() {
+            AttendeeProposalMessage message = AttendeeProposalMessage.builder()
+                .occurredAt(OCCURRED_AT).scheduleId(4L).organizerId(1).attendeeId(2)
+                .startTime(START).endTime(END).proposalId(9L)
+                .proposedStartTime(START.plusDays(1)).proposedEndTime(END.plusDays(1))
+                .runningTime(60).reason("다른 일정이 있습니다").build();
+
+            AttendeeProposalMessage read = roundTrip(message);
+
+            assertEquals(9L, read.getProposalId());
+            assertEquals(START.plusDays(1), read.getProposedStartTime());
+            assertEquals(END.plusDays(1), read.getProposedEndTime());
+            assertEquals("다른 일정이 있습니다", read.getReason());
+        }
+    }
+
+    @DisplayName("시간은 초 단위까지만 보관")
+    @Test
+    void truncatesNanosTest() {
+        MeetingDeleteMessage message = MeetingDeleteMessage.builder()
+            .occurredAt(OCCURRED_AT.plusNanos(123_456_789)).build();
+
+        assertEquals(OCCURRED_AT, roundTrip(message).getOccurredAt());
+    }
+
+    @DisplayName("JSON 이나 다른 버전의 메시지는 읽지 않음")
+    @Test
+    void rejectsUnknownFormatTest() {
+        assertThrows(RuntimeException.class,
+            () -> deserializer.deserialize("topic", "{\"scheduleId\":1}".getBytes()));
+        assertThrows(RuntimeException.class, () -> deserializer.deserialize("topic",
+            new byte[]{CompactMessageCodec.MAGIC, CompactMessageCodec.VERSION + 1, 1}));
+        byte[] encoded = CompactMessageCodec.encode(
+            MeetingCreateMessage.builder().scheduleName("잘린 메시지").build());
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+        assertThrows(RuntimeException.class, () -> deserializer.deserialize("topic", truncated));
+        assertInstanceOf(MeetingCreateMessage.class, deserializer.deserialize("topic", encoded));
+    }
+}
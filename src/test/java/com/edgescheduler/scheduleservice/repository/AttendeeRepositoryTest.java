@@ -1,11 +1,15 @@
 package com.edgescheduler.scheduleservice.repository;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.edgescheduler.scheduleservice.domain.Attendee;
 import com.edgescheduler.scheduleservice.domain.AttendeeStatus;
 import com.edgescheduler.scheduleservice.domain.Schedule;
 import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.vo.AttendingMeetingVO;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -75,4 +79,47 @@ public class AttendeeRepositoryTest {
 
         assertIterableEquals(attendees, result);
     }
+
+    @DisplayName("조회 기간에 걸치는 참여 회의 조회하기")
+    @Test
+    void findAttendingMeetingsByMemberIdsWithinPeriod() {
+        Schedule pastMeeting = saveMeeting("지난 회의", Instant.parse("2024-04-01T09:00:00Z"), 10,
+            AttendeeStatus.ACCEPTED);
+        Schedule meeting = saveMeeting("이번 주 회의", Instant.parse("2024-05-07T09:00:00Z"), 10,
+            AttendeeStatus.DECLINED);
+        saveMeeting("다른 사람 회의", Instant.parse("2024-05-07T09:00:00Z"), 11,
+            AttendeeStatus.ACCEPTED);
+
+        List<AttendingMeetingVO> result = AttendeeRepository.findAttendingMeetingsByMemberIdsWithinPeriod(
+            List.of(10), Instant.parse("2024-05-06T00:00:00Z"), Instant.parse("2024-05-13T00:00:00Z"));
+
+        assertAll(
+            () -> assertEquals(1, result.size()),
+            () -> assertEquals(10, result.get(0).memberId()),
+            () -> assertEquals(meeting.getId(), result.get(0).scheduleId()),
+            () -> assertEquals(AttendeeStatus.DECLINED, result.get(0).status()),
+            () -> assertNotEquals(pastMeeting.getId(), result.get(0).scheduleId())
+        );
+    }
+
+    private Schedule saveMeeting(String name, Instant start, int memberId,
+        AttendeeStatus status) {
+        Schedule schedule = Schedule.builder()
+            .organizerId(memberId)
+            .name(name)
+            .type(ScheduleType.MEETING)
+            .color(1)
+            .startDatetime(start)
+            .endDatetime(start.plusSeconds(3600))
+            .isPublic(true)
+            .isDeleted(false)
+            .build();
+        schedule.setAttendees(List.of(Attendee.builder()
+            .schedule(schedule)
+            .memberId(memberId)
+            .isRequired(true)
+            .status(status)
+            .build()));
+        return scheduleRepository.save(schedule);
+    }
 }
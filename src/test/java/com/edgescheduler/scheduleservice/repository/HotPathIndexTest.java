@@ -0,0 +1,123 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.domain.Schedule;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 마이그레이션으로 만든 스키마에서 실제 JPQL 이 만드는 SQL 의 실행 계획이 인덱스를 쓰는지 확인
+ * 다른 테스트와 DB 를 나누고 ddl-auto 를 validate 로 두어 마이그레이션과 엔티티가 맞는지도 함께 확인한다.
+ */
+@Slf4j
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.edgescheduler.scheduleservice.repository.HotPathIndexTest$SqlRecorder"
+})
+class HotPathIndexTest {
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Instant start = Instant.parse("2024-05-01T00:00:00Z");
+    private final Instant end = Instant.parse("2024-05-08T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.clear();
+    }
+
+    @DisplayName("사용자들이 참여 중인 회의 조회는 참석자 인덱스 사용")
+    @Test
+    void attendingMeetingsTest() {
+        attendeeRepository.findAttendingMeetingsByMemberIdsWithinPeriod(List.of(1, 2), start, end);
+
+        assertUsesIndex("idx_attendee_member_status_schedule");
+    }
+
+    @DisplayName("수락한 회의 조회는 참석자 인덱스 사용")
+    @Test
+    void acceptedSchedulesTest() {
+        scheduleRepository.findAcceptedSchedulesByAttendeeIdAndEndDatetimeBeforeAndStartDatetimeAfter(
+            1, start, end);
+
+        assertUsesIndex("idx_attendee_member_status_schedule");
+    }
+
+    @DisplayName("사용자들의 회의 외 일정 조회는 주최자 인덱스 사용")
+    @Test
+    void schedulesExceptMeetingTest() {
+        scheduleRepository.findSchedulesExceptMeetingByOrganizerIdsWithinPeriod(List.of(1, 2),
+            start, end);
+
+        assertUsesIndex("idx_schedule_organizer_type_deleted_start");
+    }
+
+    @DisplayName("다음 반복 조회는 부모 일정 인덱스 사용")
+    @Test
+    void nextRecurrenceTest() {
+        scheduleRepository.findNextRecurrenceScheduleByParentScheduleAndStartDatetime(
+            Schedule.builder().id(1L).build());
+
+        // MySQL 은 같은 컬럼으로 시작하는 인덱스가 생기면 외래 키용 인덱스를 지우지만 H2 는 남겨 두고 그 인덱스를 쓸 수 있다
+        assertUsesIndex("idx_schedule_parent_start", "fk_schedule_parent");
+    }
+
+    private void assertUsesIndex(String... indexes) {
+        String sql = SqlRecorder.last();
+        Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        String plan = jdbcTemplate.queryForList("EXPLAIN " + sql, parameters).stream()
+            .map(Map::values)
+            .map(String::valueOf)
+            .reduce("", String::concat);
+        log.info("plan: {}", plan);
+        assertTrue(Arrays.stream(indexes).anyMatch(plan::contains),
+            () -> Arrays.toString(indexes) + " is not used: " + plan);
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(
+            new ArrayList<>());
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static String last() {
+            return STATEMENTS.get(STATEMENTS.size() - 1);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
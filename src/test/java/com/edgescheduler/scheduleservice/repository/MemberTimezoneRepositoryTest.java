@@ -0,0 +1,52 @@
+package com.edgescheduler.scheduleservice.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class MemberTimezoneRepositoryTest {
+
+    @Autowired
+    private MemberTimezoneRepository memberTimezoneRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("있는 사용자는 시간대를 바꾸고 없는 사용자는 추가")
+    @Test
+    void upsertAllTest() {
+        memberTimezoneRepository.saveAndFlush(new MemberTimezone(901, "Asia/Seoul"));
+
+        memberTimezoneRepository.upsertAll(List.of(
+            new MemberTimezone(901, "Europe/Paris"), new MemberTimezone(902, "America/New_York")));
+        entityManager.clear();
+
+        assertEquals("Europe/Paris", memberTimezoneRepository.findById(901).orElseThrow()
+            .getZoneId());
+        assertEquals("America/New_York", memberTimezoneRepository.findById(902).orElseThrow()
+            .getZoneId());
+    }
+
+    @DisplayName("행 별칭은 MySQL 8.0.19 이후에만 사용")
+    @Test
+    void supportsRowAliasTest() {
+        assertFalse(MemberTimezoneRepositoryImpl.supportsRowAlias("MySQL", 5, 7, "5.7.44"));
+        assertFalse(MemberTimezoneRepositoryImpl.supportsRowAlias("MySQL", 8, 0, "8.0.18"));
+        assertTrue(MemberTimezoneRepositoryImpl.supportsRowAlias("MySQL", 8, 0, "8.0.19"));
+        assertTrue(MemberTimezoneRepositoryImpl.supportsRowAlias("MySQL", 8, 0,
+            "8.0.36-0ubuntu0.22.04.1"));
+        assertTrue(MemberTimezoneRepositoryImpl.supportsRowAlias("MySQL", 8, 4, "8.4.0"));
+        assertFalse(MemberTimezoneRepositoryImpl.supportsRowAlias("H2", 2, 2, "2.2.224"));
+    }
+}
@@ -2,14 +2,21 @@ package com.edgescheduler.scheduleservice.repository;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.edgescheduler.scheduleservice.domain.Attendee;
 import com.edgescheduler.scheduleservice.domain.AttendeeStatus;
+import com.edgescheduler.scheduleservice.domain.Recurrence;
+import com.edgescheduler.scheduleservice.domain.RecurrenceDayType;
+import com.edgescheduler.scheduleservice.domain.RecurrenceFreqType;
 import com.edgescheduler.scheduleservice.domain.Schedule;
 import com.edgescheduler.scheduleservice.domain.ScheduleType;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 @Slf4j
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -170,4 +178,97 @@ class ScheduleRepositoryTest {
         assertEquals(save.getId(), schedules.get(0).getId());
         assertEquals("schedule1", schedules.get(0).getName());
     }
-}
\ No newline at end of file
+
+    @DisplayName("조회 기간에 걸치는 회의 외 일정만 조회")
+    @Test
+    void findSchedulesExceptMeetingByOrganizerIdsWithinPeriod() {
+        Schedule oldOneOff = saveNonMeetingSchedule("지난 일정",
+            Instant.parse("2022-01-10T09:00:00Z"), null);
+        Schedule oneOff = saveNonMeetingSchedule("이번 주 일정",
+            Instant.parse("2024-05-07T09:00:00Z"), null);
+        Schedule infinite = saveNonMeetingSchedule("기한 없는 반복",
+            Instant.parse("2022-01-10T09:00:00Z"),
+            Recurrence.builder().freq(RecurrenceFreqType.DAILY).intv(1).build());
+        Schedule expired = saveNonMeetingSchedule("기한 지난 반복",
+            Instant.parse("2022-01-10T09:00:00Z"),
+            Recurrence.builder().freq(RecurrenceFreqType.DAILY).intv(1)
+                .expiredDate(Instant.parse("2023-01-01T00:00:00Z")).build());
+        Schedule countEnded = saveNonMeetingSchedule("횟수 끝난 반복",
+            Instant.parse("2022-01-10T09:00:00Z"),
+            Recurrence.builder().freq(RecurrenceFreqType.WEEKLY).intv(1).count(10)
+                .recurrenceDay(EnumSet.of(RecurrenceDayType.MON)).build());
+        Schedule countOngoing = saveNonMeetingSchedule("횟수 남은 반복",
+            Instant.parse("2024-03-04T09:00:00Z"),
+            Recurrence.builder().freq(RecurrenceFreqType.MONTHLY).intv(1).count(3).build());
+        Schedule future = saveNonMeetingSchedule("다음 달 반복",
+            Instant.parse("2024-06-03T09:00:00Z"),
+            Recurrence.builder().freq(RecurrenceFreqType.DAILY).intv(1).build());
+
+        List<Long> scheduleIds = scheduleRepository.findSchedulesExceptMeetingByOrganizerIdsWithinPeriod(
+                List.of(100), Instant.parse("2024-05-06T00:00:00Z"), Instant.parse("2024-05-13T00:00:00Z"))
+            .stream().map(Schedule::getId).toList();
+
+        assertAll(
+            () -> assertTrue(scheduleIds.containsAll(
+                List.of(oneOff.getId(), infinite.getId(), countOngoing.getId()))),
+            () -> assertFalse(scheduleIds.contains(oldOneOff.getId())),
+            () -> assertFalse(scheduleIds.contains(expired.getId())),
+            () -> assertFalse(scheduleIds.contains(countEnded.getId())),
+            () -> assertFalse(scheduleIds.contains(future.getId()))
+        );
+    }
+
+    @DisplayName("생성 기한을 늘릴 반복 일정은 커서 다음부터 기한이 남았거나 끝난 반복을 빼고 조회")
+    @Test
+    void findRecurrenceSchedulesToMaterialize() {
+        Instant threshold = Instant.parse("2025-05-01T00:00:00Z");
+        Schedule notMaterialized = saveNonMeetingSchedule("생성 전 반복",
+            Instant.parse("2024-05-06T09:00:00Z"),
+            Recurrence.builder().freq(RecurrenceFreqType.DAILY).intv(1).build());
+        Schedule behind = saveMaterialized("기한이 지난 반복", Recurrence.builder()
+            .freq(RecurrenceFreqType.DAILY).intv(1).build(), Instant.parse("2025-04-01T00:00:00Z"));
+        Schedule covered = saveMaterialized("기한이 남은 반복", Recurrence.builder()
+            .freq(RecurrenceFreqType.DAILY).intv(1).build(), Instant.parse("2025-05-02T00:00:00Z"));
+        Schedule expired = saveMaterialized("기한 전에 끝난 반복", Recurrence.builder()
+            .freq(RecurrenceFreqType.DAILY).intv(1)
+            .expiredDate(Instant.parse("2024-06-01T00:00:00Z")).build(),
+            Instant.parse("2025-04-01T00:00:00Z"));
+        Schedule countEnded = saveMaterialized("횟수가 끝난 반복", Recurrence.builder()
+            .freq(RecurrenceFreqType.DAILY).intv(1).count(10).build(),
+            Instant.parse("2025-04-01T00:00:00Z"));
+
+        List<Long> scheduleIds = scheduleRepository.findRecurrenceSchedulesToMaterialize(
+                notMaterialized.getId() - 1, threshold, Limit.of(10))
+            .stream().map(Schedule::getId).toList();
+        List<Long> afterCursor = scheduleRepository.findRecurrenceSchedulesToMaterialize(
+                notMaterialized.getId(), threshold, Limit.of(10))
+            .stream().map(Schedule::getId).toList();
+
+        assertAll(
+            () -> assertEquals(List.of(notMaterialized.getId(), behind.getId()), scheduleIds),
+            () -> assertEquals(List.of(behind.getId()), afterCursor),
+            () -> assertFalse(scheduleIds.contains(covered.getId())),
+            () -> assertFalse(scheduleIds.contains(expired.getId())),
+            () -> assertFalse(scheduleIds.contains(countEnded.getId()))
+        );
+    }
+
+    private Schedule saveMaterialized(String name, Recurrence recurrence, Instant until) {
+        recurrence.markMaterialized(Instant.parse("2024-04-01T00:00:00Z"), until);
+        return saveNonMeetingSchedule(name, Instant.parse("2024-05-06T09:00:00Z"), recurrence);
+    }
+
+    private Schedule saveNonMeetingSchedule(String name, Instant start, Recurrence recurrence) {
+        return scheduleRepository.save(Schedule.builder()
+            .organizerId(100)
+            .name(name)
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(start)
+            .endDatetime(start.plus(1, ChronoUnit.HOURS))
+            .isPublic(true)
+            .isDeleted(false)
+            .recurrence(recurrence)
+            .build());
+    }
+}
@@ -0,0 +1,51 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MeetingCreateMessage;
+import com.edgescheduler.scheduleservice.vo.TopicSendStats;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaProducerTest {
+
+    @Mock
+    private KafkaTemplate<String, KafkaEventMessage> kafkaTemplate;
+
+    @InjectMocks
+    private KafkaProducer kafkaProducer;
+
+    @DisplayName("발행 결과를 토픽 별로 집계")
+    @Test
+    void statsPerTopicTest() {
+        KafkaEventMessage message = MeetingCreateMessage.builder().scheduleId(1L).build();
+        given(kafkaTemplate.send(eq("meeting-created"), eq("1"), any())).willReturn(
+            CompletableFuture.completedFuture(null));
+        given(kafkaTemplate.send(eq("meeting-deleted"), eq("1"), any())).willReturn(
+            CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        kafkaProducer.send("meeting-created", "1", message);
+        kafkaProducer.send("meeting-created", "1", message);
+        CompletableFuture<?> failed = kafkaProducer.send("meeting-deleted", "1", message);
+
+        TopicSendStats created = kafkaProducer.stats().get("meeting-created");
+        TopicSendStats deleted = kafkaProducer.stats().get("meeting-deleted");
+        assertEquals(2, created.sent());
+        assertEquals(0, created.failed());
+        assertEquals(0, deleted.sent());
+        assertEquals(1, deleted.failed());
+        assertTrue(failed.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,85 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.edgescheduler.scheduleservice.client.UserServiceClient;
+import com.edgescheduler.scheduleservice.domain.MemberProfile;
+import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
+import com.edgescheduler.scheduleservice.message.MemberProfileMessage;
+import com.edgescheduler.scheduleservice.repository.MemberProfileRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileServiceTest {
+
+    @Mock
+    private MemberProfileRepository memberProfileRepository;
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    @InjectMocks
+    private MemberProfileService memberProfileService;
+
+    @DisplayName("저장된 사용자 정보가 없는 사용자만 user-service 에서 조회")
+    @Test
+    void getProfilesOnlyFetchesMissingTest() {
+        given(memberProfileRepository.findAllById(Set.of(1, 2))).willReturn(List.of(
+            MemberProfile.builder().id(1).name("kim").build()));
+        given(userServiceClient.getUsers(List.of(2))).willReturn(Map.of(
+            2, UserInfoResponse.builder().id(2).name("lee").build()));
+
+        Map<Integer, UserInfoResponse> profiles = memberProfileService.getProfiles(List.of(1, 2));
+
+        assertEquals("kim", profiles.get(1).getName());
+        assertEquals("lee", profiles.get(2).getName());
+    }
+
+    @DisplayName("모두 저장되어 있으면 user-service 를 호출하지 않음")
+    @Test
+    void getProfilesWithoutUserServiceTest() {
+        given(memberProfileRepository.findAllById(Set.of(3))).willReturn(List.of(
+            MemberProfile.builder().id(3).name("park").build()));
+
+        assertEquals("park", memberProfileService.getProfile(3).getName());
+        verify(userServiceClient, never()).getUsers(any());
+    }
+
+    @DisplayName("저장된 이름 조회는 저장된 정보가 없어도 user-service 를 호출하지 않음")
+    @Test
+    void getStoredNameWithoutUserServiceTest() {
+        given(memberProfileRepository.findById(5)).willReturn(Optional.empty());
+
+        assertNull(memberProfileService.getStoredName(5));
+        verify(userServiceClient, never()).getUsers(any());
+    }
+
+    @DisplayName("사용자 정보 변경 메시지를 받으면 저장된 정보 갱신")
+    @Test
+    void listenUpdatesProfileTest() {
+        MemberProfile memberProfile = MemberProfile.builder().id(4).name("choi").build();
+        given(memberProfileRepository.findById(4)).willReturn(Optional.of(memberProfile));
+
+        memberProfileService.listen(MemberProfileMessage.builder()
+            .memberId(4).name("jung").department("dev").build());
+
+        assertEquals("jung", memberProfile.getName());
+        assertEquals("dev", memberProfile.getDepartment());
+        verify(memberProfileRepository).save(memberProfile);
+        verify(userServiceClient).evict(4);
+    }
+}
@@ -0,0 +1,101 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.edgescheduler.scheduleservice.cache.MemberScheduleCache;
+import com.edgescheduler.scheduleservice.config.deserializer.ScheduleCacheEvictMessageDeserializer;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.ScheduleCacheEvictMessage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class MemberScheduleCacheBroadcasterTest {
+
+    private MemberScheduleCache memberScheduleCache;
+    private KafkaProducer kafkaProducer;
+    private MemberScheduleCacheBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        memberScheduleCache = new MemberScheduleCache(100, Duration.ofMinutes(10),
+            Duration.ofSeconds(10));
+        kafkaProducer = mock(KafkaProducer.class);
+        broadcaster = new MemberScheduleCacheBroadcaster(memberScheduleCache, kafkaProducer);
+    }
+
+    @DisplayName("무효화된 사용자를 모아 한 번에 전달")
+    @Test
+    void broadcastTest() {
+        memberScheduleCache.evictMembers(List.of(1, 2));
+        memberScheduleCache.evictMembers(List.of(3));
+
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        ArgumentCaptor<KafkaEventMessage> captor = ArgumentCaptor.forClass(KafkaEventMessage.class);
+        verify(kafkaProducer, times(1)).send(eq("schedule-cache-evicted"), anyString(),
+            captor.capture());
+        ScheduleCacheEvictMessage message = (ScheduleCacheEvictMessage) captor.getValue();
+        assertEquals(Set.of(1, 2, 3), Set.copyOf(message.getMemberIds()));
+    }
+
+    @DisplayName("다른 인스턴스가 보낸 무효화만 적용")
+    @Test
+    void listenTest() {
+        memberScheduleCache.evictMembers(List.of(1));
+        broadcaster.broadcast();
+        ArgumentCaptor<KafkaEventMessage> captor = ArgumentCaptor.forClass(KafkaEventMessage.class);
+        verify(kafkaProducer).send(any(), any(), captor.capture());
+        ScheduleCacheEvictMessage own = (ScheduleCacheEvictMessage) captor.getValue();
+
+        broadcaster.listen(ScheduleCacheEvictMessage.builder()
+            .instanceId(own.getInstanceId())
+            .memberIds(List.of(11))
+            .build());
+        assertFalse(memberScheduleCache.isRecentlyWritten(11));
+
+        broadcaster.listen(ScheduleCacheEvictMessage.builder()
+            .instanceId("other-instance")
+            .memberIds(List.of(11))
+            .build());
+        assertTrue(memberScheduleCache.isRecentlyWritten(11));
+
+        // 전달받은 무효화는 다시 보내지 않는다
+        broadcaster.broadcast();
+        verify(kafkaProducer, times(1)).send(any(), any(), any());
+    }
+
+    @DisplayName("발행한 메시지를 그대로 읽을 수 있음")
+    @Test
+    void deserializeTest() {
+        memberScheduleCache.evictMembers(List.of(5));
+        broadcaster.broadcast();
+        ArgumentCaptor<KafkaEventMessage> captor = ArgumentCaptor.forClass(KafkaEventMessage.class);
+        verify(kafkaProducer).send(any(), any(), captor.capture());
+
+        byte[] data;
+        try (JsonSerializer<KafkaEventMessage> serializer = new JsonSerializer<>()) {
+            data = serializer.serialize("schedule-cache-evicted", captor.getValue());
+        }
+        ScheduleCacheEvictMessage message = new ScheduleCacheEvictMessageDeserializer()
+            .deserialize("schedule-cache-evicted", data);
+
+        assertEquals(List.of(5), message.getMemberIds());
+        assertEquals(((ScheduleCacheEvictMessage) captor.getValue()).getInstanceId(),
+            message.getInstanceId());
+    }
+}
@@ -0,0 +1,75 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.edgescheduler.scheduleservice.cache.MemberScheduleCache;
+import com.edgescheduler.scheduleservice.cache.MemberTimezoneDirectory;
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import com.edgescheduler.scheduleservice.message.ChangeTimeZoneMessage;
+import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MemberTimezoneServiceTest {
+
+    @Mock
+    private MemberTimezoneRepository memberTimezoneRepository;
+
+    @Mock
+    private ScheduleOccurrenceService scheduleOccurrenceService;
+
+    @Mock
+    private MemberScheduleCache memberScheduleCache;
+
+    private MemberTimezoneDirectory memberTimezoneDirectory;
+    private MemberTimezoneService memberTimezoneService;
+
+    @BeforeEach
+    void setUp() {
+        memberTimezoneDirectory = new MemberTimezoneDirectory(memberTimezoneRepository,
+            memberScheduleCache);
+        memberTimezoneService = new MemberTimezoneService(memberTimezoneRepository,
+            scheduleOccurrenceService, memberScheduleCache, memberTimezoneDirectory);
+    }
+
+    @DisplayName("사용자 별 마지막 메시지만 한 번에 저장하고 캐시 무효화")
+    @Test
+    void listenDeduplicatesTest() {
+        memberTimezoneService.listen(List.of(
+            new ChangeTimeZoneMessage(1, "Asia/Seoul"),
+            new ChangeTimeZoneMessage(2, "Europe/Paris"),
+            new ChangeTimeZoneMessage(1, "America/New_York")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<MemberTimezone>> upserted = ArgumentCaptor.forClass(
+            Collection.class);
+        verify(memberTimezoneRepository).upsertAll(upserted.capture());
+        List<MemberTimezone> rows = List.copyOf(upserted.getValue());
+        assertEquals(2, rows.size());
+        assertEquals("America/New_York", rows.get(0).getZoneId());
+        verify(scheduleOccurrenceService).invalidateMembers(Set.of(1, 2));
+        verify(memberScheduleCache).evictMembers(Set.of(1, 2));
+        assertEquals(ZoneId.of("America/New_York"), memberTimezoneDirectory.getZoneId(1));
+    }
+
+    @DisplayName("처리할 메시지가 없으면 저장하지 않음")
+    @Test
+    void emptyBatchTest() {
+        memberTimezoneService.listen(List.of());
+
+        verify(memberTimezoneRepository, never()).upsertAll(any());
+    }
+}
@@ -0,0 +1,249 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.edgescheduler.scheduleservice.domain.OutboxEvent;
+import com.edgescheduler.scheduleservice.dto.response.UserInfoResponse;
+import com.edgescheduler.scheduleservice.message.AttendeeResponseMessage;
+import com.edgescheduler.scheduleservice.message.KafkaEventMessage;
+import com.edgescheduler.scheduleservice.message.MeetingCreateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingDeleteMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
+import com.edgescheduler.scheduleservice.repository.OutboxEventRepository;
+import com.edgescheduler.scheduleservice.vo.OutboxEventIdVO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(
+        new JavaTimeModule());
+
+    private OutboxEventRepository outboxEventRepository;
+    private KafkaProducer kafkaProducer;
+    private OutboxService outboxService;
+    private MemberProfileService memberProfileService;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        kafkaProducer = mock(KafkaProducer.class);
+        outboxService = new OutboxService(outboxEventRepository, objectMapper);
+        memberProfileService = mock(MemberProfileService.class);
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxService, kafkaProducer,
+            memberProfileService, mock(PlatformTransactionManager.class));
+    }
+
+    @DisplayName("저장한 메시지를 같은 타입으로 다시 읽음")
+    @Test
+    void payloadRoundTripTest() throws Exception {
+        MeetingCreateMessage message = MeetingCreateMessage.builder()
+            .occurredAt(LocalDateTime.of(2024, 5, 1, 9, 0))
+            .scheduleId(7L)
+            .organizerName("kim")
+            .attendeeIds(List.of(1, 2))
+            .build();
+        OutboxEvent event = event(1L, 7L, "meeting-created", message);
+
+        MeetingCreateMessage read = (MeetingCreateMessage) outboxService.deserialize(event);
+
+        assertEquals(message.getOccurredAt(), read.getOccurredAt());
+        assertEquals("kim", read.getOrganizerName());
+        assertEquals(List.of(1, 2), read.getAttendeeIds());
+    }
+
+    @DisplayName("쓰기 시점에 채우지 못한 사용자 이름은 발행 직전에 한 번에 조회해서 채움")
+    @Test
+    void fillMissingMemberNamesTest() throws Exception {
+        OutboxEvent created = event(1L, 10L, "meeting-created",
+            MeetingCreateMessage.builder().scheduleId(10L).organizerId(1).build());
+        OutboxEvent response = event(2L, 20L, "attendee-response",
+            AttendeeResponseMessage.builder().scheduleId(20L).attendeeId(2).build());
+        // 이미 이름이 있는 메시지는 다시 조회하지 않는다
+        OutboxEvent named = event(3L, 30L, "meeting-deleted",
+            MeetingDeleteMessage.builder().scheduleId(30L).organizerId(3).organizerName("lee")
+                .build());
+        given(outboxEventRepository.findClaimable(any(), any())).willReturn(
+            List.of(created, response, named));
+        given(memberProfileService.getProfiles(Set.of(1, 2))).willReturn(Map.of(
+            1, UserInfoResponse.builder().id(1).name("kim").build(),
+            2, UserInfoResponse.builder().id(2).name("park").build()));
+        given(kafkaProducer.send(any(), any(), any())).willReturn(
+            CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<KafkaEventMessage> sent = ArgumentCaptor.forClass(KafkaEventMessage.class);
+        verify(kafkaProducer, times(3)).send(any(), any(), sent.capture());
+        verify(memberProfileService).getProfiles(Set.of(1, 2));
+        assertEquals("kim", ((MeetingCreateMessage) sent.getAllValues().get(0)).getOrganizerName());
+        assertEquals("park",
+            ((AttendeeResponseMessage) sent.getAllValues().get(1)).getAttendeeName());
+        assertEquals("lee", ((MeetingDeleteMessage) sent.getAllValues().get(2)).getOrganizerName());
+    }
+
+    @DisplayName("발행에 실패한 일정의 이후 메시지는 남기고 나머지만 삭제")
+    @Test
+    void keepsFailedScheduleInOrderTest() throws Exception {
+        OutboxEvent first = event(1L, 10L, "meeting-created",
+            MeetingCreateMessage.builder().scheduleId(10L).build());
+        OutboxEvent other = event(2L, 20L, "meeting-created",
+            MeetingCreateMessage.builder().scheduleId(20L).build());
+        OutboxEvent second = event(3L, 10L, "meeting-deleted",
+            MeetingDeleteMessage.builder().scheduleId(10L).build());
+        given(outboxEventRepository.findClaimable(any(), any())).willReturn(
+            List.of(first, other, second));
+        given(kafkaProducer.send(eq("meeting-created"), eq("10"), any())).willReturn(
+            CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        given(kafkaProducer.send(eq("meeting-created"), eq("20"), any())).willReturn(
+            CompletableFuture.completedFuture(null));
+        given(kafkaProducer.send(eq("meeting-deleted"), eq("10"), any())).willReturn(
+            CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        // 앞의 메시지가 실패한 일정의 다음 메시지는 보내지 않고 다음 실행으로 넘긴다
+        verify(kafkaProducer, never()).send(eq("meeting-deleted"), any(), any());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(outboxEventRepository).release(List.of(1L, 3L));
+    }
+
+    @DisplayName("같은 일정의 앞선 메시지를 다른 인스턴스가 발행 중이면 그 뒤의 메시지는 가져가지 않음")
+    @Test
+    void skipsScheduleBlockedByOtherInstanceTest() throws Exception {
+        OutboxEvent first = event(2L, 10L, "meeting-created",
+            MeetingCreateMessage.builder().scheduleId(10L).build());
+        OutboxEvent other = event(3L, 20L, "meeting-created",
+            MeetingCreateMessage.builder().scheduleId(20L).build());
+        OutboxEvent second = event(5L, 10L, "meeting-deleted",
+            MeetingDeleteMessage.builder().scheduleId(10L).build());
+        given(outboxEventRepository.findClaimable(any(), any())).willReturn(
+            List.of(first, other, second));
+        // 4번은 다른 인스턴스가 잠그고 있어서 건너뛴 일정 10의 메시지
+        given(outboxEventRepository.findOldestOtherEvents(any(), any(), eq(5L))).willReturn(
+            List.of(new OutboxEventIdVO(10L, 4L)));
+        given(kafkaProducer.send(any(), any(), any())).willReturn(
+            CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository).claim(eq(List.of(2L, 3L)), any());
+        verify(kafkaProducer, never()).send(eq("meeting-deleted"), any(), any());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(2L, 3L));
+    }
+
+    @DisplayName("같은 일정의 메시지는 앞의 메시지가 발행된 뒤에 보냄")
+    @Test
+    void sendsScheduleEventsSequentiallyTest() throws Exception {
+        OutboxEvent first = event(1L, 10L, "meeting-created",
+            MeetingCreateMessage.builder().scheduleId(10L).build());
+        OutboxEvent second = event(2L, 10L, "meeting-deleted",
+            MeetingDeleteMessage.builder().scheduleId(10L).build());
+        given(outboxEventRepository.findClaimable(any(), any())).willReturn(
+            List.of(first, second));
+        // 첫 메시지는 조금 뒤에 발행이 확인된다
+        CompletableFuture<SendResult<String, KafkaEventMessage>> firstResult = CompletableFuture
+            .supplyAsync(() -> null, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        AtomicBoolean firstAcked = new AtomicBoolean();
+        given(kafkaProducer.send(eq("meeting-created"), eq("10"), any())).willReturn(firstResult);
+        given(kafkaProducer.send(eq("meeting-deleted"), eq("10"), any())).will(invocation -> {
+            firstAcked.set(firstResult.isDone());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        outboxRelay.relay();
+
+        assertTrue(firstAcked.get());
+        InOrder inOrder = inOrder(kafkaProducer);
+        inOrder.verify(kafkaProducer).send(eq("meeting-created"), eq("10"), any());
+        inOrder.verify(kafkaProducer).send(eq("meeting-deleted"), eq("10"), any());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @DisplayName("합치는 기간 안의 같은 회의 수정 메시지는 하나로 발행하고 기간이 지나지 않은 일정은 미룸")
+    @Test
+    void coalesceMeetingUpdatesTest() throws Exception {
+        ReflectionTestUtils.setField(outboxRelay, "coalesceWindow", Duration.ofSeconds(5));
+        Instant old = Instant.now().minusSeconds(60);
+        OutboxEvent firstDrag = event(1L, 10L, "meeting-updated",
+            update(10L, List.of(UpdatedField.TIME)), old);
+        OutboxEvent secondDrag = event(2L, 10L, "meeting-updated",
+            update(10L, List.of(UpdatedField.TITLE)), old.plusSeconds(2));
+        // 기간이 지나서 따로 발행
+        OutboxEvent later = event(3L, 10L, "meeting-updated",
+            update(10L, List.of(UpdatedField.DESCRIPTION)), old.plusSeconds(30));
+        // 아직 더 합쳐질 수 있으므로 미룸
+        OutboxEvent recent = event(4L, 20L, "meeting-updated",
+            update(20L, List.of(UpdatedField.TIME)), Instant.now());
+        given(outboxEventRepository.findClaimable(any(), any())).willReturn(
+            List.of(firstDrag, secondDrag, later, recent));
+        given(kafkaProducer.send(eq("meeting-updated"), eq("10"), any())).willReturn(
+            CompletableFuture.completedFuture(null));
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<KafkaEventMessage> sent = ArgumentCaptor.forClass(KafkaEventMessage.class);
+        verify(kafkaProducer, times(2)).send(eq("meeting-updated"), eq("10"), sent.capture());
+        verify(kafkaProducer, never()).send(eq("meeting-updated"), eq("20"), any());
+        assertEquals(List.of(UpdatedField.TIME, UpdatedField.TITLE),
+            ((MeetingUpdateMessage) sent.getAllValues().get(0)).getUpdatedFields());
+        assertEquals(List.of(UpdatedField.DESCRIPTION),
+            ((MeetingUpdateMessage) sent.getAllValues().get(1)).getUpdatedFields());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    private MeetingUpdateMessage update(Long scheduleId, List<UpdatedField> updatedFields) {
+        return MeetingUpdateMessage.builder()
+            .scheduleId(scheduleId)
+            .maintainedAttendeeIds(List.of(1))
+            .addedAttendeeIds(List.of())
+            .removedAttendeeIds(List.of())
+            .updatedFields(updatedFields)
+            .build();
+    }
+
+    private OutboxEvent event(Long id, Long scheduleId, String topic, Object message)
+        throws Exception {
+        return event(id, scheduleId, topic, message, Instant.now());
+    }
+
+    private OutboxEvent event(Long id, Long scheduleId, String topic, Object message,
+        Instant createdAt) throws Exception {
+        return OutboxEvent.builder()
+            .id(id)
+            .scheduleId(scheduleId)
+            .topic(topic)
+            .payloadType(message.getClass().getName())
+            .payload(objectMapper.writeValueAsString(message))
+            .createdAt(createdAt)
+            .build();
+    }
+}
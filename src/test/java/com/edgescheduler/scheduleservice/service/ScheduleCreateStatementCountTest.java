@@ -0,0 +1,106 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest;
+import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest.RecurrenceDetails;
+import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest.ScheduleAttendee;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+class ScheduleCreateStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ORGANIZER_ID = 501;
+
+    @Override
+    protected int organizerId() {
+        return ORGANIZER_ID;
+    }
+
+    @DisplayName("참석자 수가 늘어나도 회의 등록에 쓰는 SQL 문 수는 거의 같음")
+    @Test
+    void createMeetingStatementCountTest() {
+        // 처음 등록은 ID 를 미리 받아 두는 등의 준비 비용이 섞이므로 제외
+        createMeeting(3);
+
+        long small = countStatements(5);
+        long large = countStatements(45);
+
+        log.info("statements - 5 attendees: {}, 45 attendees: {}", small, large);
+        assertTrue(large <= small + 2, () -> small + " -> " + large);
+    }
+
+    @DisplayName("반복 일정 등록은 미리 생성하는 반복을 묶어서 저장")
+    @Test
+    void createRecurrenceStatementCountTest() {
+        // 처음 등록은 ID 를 미리 받아 두는 등의 준비 비용이 섞이므로 제외
+        createDailyRecurrence();
+
+        resetStatementCount();
+        Long scheduleId = createDailyRecurrence();
+        long statements = statementCount();
+        int occurrences = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM schedule_occurrence WHERE schedule_id = ?", Integer.class,
+            scheduleId);
+
+        log.info("statements - {} occurrences: {}", occurrences, statements);
+        assertTrue(occurrences > 300, () -> String.valueOf(occurrences));
+        assertTrue(statements < occurrences / 5, () -> occurrences + " -> " + statements);
+    }
+
+    private long countStatements(int attendees) {
+        resetStatementCount();
+        Long scheduleId = createMeeting(attendees);
+        long statements = statementCount();
+        assertEquals(attendees, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM attendee WHERE schedule_id = ?", Integer.class, scheduleId));
+        return statements;
+    }
+
+    private Long createMeeting(int attendees) {
+        List<ScheduleAttendee> attendeeList = IntStream.rangeClosed(0, attendees - 1)
+            .mapToObj(i -> ScheduleAttendee.builder()
+                .memberId(i == 0 ? ORGANIZER_ID : 10_000 + i)
+                .isRequired(true)
+                .build())
+            .toList();
+        return simpleScheduleService.createSchedule(ScheduleCreateRequest.builder()
+            .organizerId(ORGANIZER_ID)
+            .name("회의")
+            .description("배치 저장 확인")
+            .type(ScheduleType.MEETING)
+            .color(1)
+            .startDatetime(LocalDateTime.of(2024, 7, 1, 9, 0))
+            .endDatetime(LocalDateTime.of(2024, 7, 1, 10, 0))
+            .isPublic(true)
+            .isRecurrence(false)
+            .attendeeList(attendeeList)
+            .build()).getScheduleId();
+    }
+
+    private Long createDailyRecurrence() {
+        return simpleScheduleService.createSchedule(ScheduleCreateRequest.builder()
+            .organizerId(ORGANIZER_ID)
+            .name("매일 반복")
+            .description("반복 배치 저장 확인")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(LocalDateTime.of(2024, 1, 1, 9, 0))
+            .endDatetime(LocalDateTime.of(2024, 1, 1, 10, 0))
+            .isPublic(true)
+            .isRecurrence(true)
+            .recurrence(RecurrenceDetails.builder()
+                .freq("DAILY")
+                .intv(1)
+                .recurrenceDay(List.of())
+                .build())
+            .build()).getScheduleId();
+    }
+}
@@ -0,0 +1,124 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.domain.Recurrence;
+import com.edgescheduler.scheduleservice.domain.RecurrenceDayType;
+import com.edgescheduler.scheduleservice.domain.RecurrenceFreqType;
+import com.edgescheduler.scheduleservice.domain.Schedule;
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.dto.request.ScheduleDeleteRequest;
+import com.edgescheduler.scheduleservice.dto.request.ScheduleDeleteRequest.ScheduleDeleteRange;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+class ScheduleDeleteStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ORGANIZER_ID = 611;
+    private static final Instant START = Instant.parse("2024-07-01T00:00:00Z");
+
+    @Override
+    protected int organizerId() {
+        return ORGANIZER_ID;
+    }
+
+    @DisplayName("수정이 많이 쌓인 반복 일정도 모두 삭제에 쓰는 SQL 문 수는 같음")
+    @Test
+    void deleteSeriesStatementCountTest() {
+        // 처음 삭제는 시간대 조회 등의 준비 비용이 섞이므로 제외
+        countStatements(2);
+
+        long small = countStatements(3);
+        long large = countStatements(30);
+
+        log.info("statements - 3 schedules: {}, 30 schedules: {}", small, large);
+        assertEquals(small, large);
+    }
+
+    @DisplayName("참석자와 제안이 늘어나도 회의 삭제에 쓰는 SQL 문 수는 같음")
+    @Test
+    void deleteMeetingStatementCountTest() {
+        // 처음 삭제는 시간대 조회 등의 준비 비용이 섞이므로 제외
+        countMeetingStatements(2, 6_400);
+
+        long small = countMeetingStatements(3, 6_500);
+        long large = countMeetingStatements(30, 6_600);
+
+        log.info("statements - 3 attendees: {}, 30 attendees: {}", small, large);
+        assertEquals(small, large);
+    }
+
+    private long countMeetingStatements(int attendees, int memberIdFrom) {
+        Schedule meeting = saveMeeting(START, attendees, memberIdFrom);
+        Long recurrenceId = meeting.getRecurrence().getId();
+
+        resetStatementCount();
+        simpleScheduleService.deleteSchedule(ORGANIZER_ID, meeting.getId(),
+            ScheduleDeleteRequest.builder().deleteRange(ScheduleDeleteRange.ALL).build());
+        long statements = statementCount();
+
+        assertTrue(scheduleRepository.findById(meeting.getId()).isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM attendee WHERE schedule_id = ?", Integer.class,
+            meeting.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM recurrence WHERE id = ?", Integer.class, recurrenceId));
+        return statements;
+    }
+
+    private long countStatements(int chainLength) {
+        List<Schedule> chain = saveChain(chainLength);
+        List<Long> ids = chain.stream().map(Schedule::getId).toList();
+        List<Long> recurrenceIds = chain.stream().filter(s -> s.getRecurrence() != null)
+            .map(s -> s.getRecurrence().getId()).toList();
+
+        resetStatementCount();
+        // 중간 일정에서 모두 삭제해도 최상위 일정부터 이어진 일정이 모두 지워진다
+        simpleScheduleService.deleteSchedule(ORGANIZER_ID, ids.get(chainLength / 2),
+            ScheduleDeleteRequest.builder().deleteRange(ScheduleDeleteRange.ALL).build());
+        long statements = statementCount();
+
+        assertTrue(scheduleRepository.findAllById(ids).isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM recurrence WHERE id IN (" + String.join(",",
+                recurrenceIds.stream().map(String::valueOf).toList()) + ")", Integer.class));
+        return statements;
+    }
+
+    // 반복 일정 아래로 선택 삭제된 일정과 이후 수정된 반복 일정이 번갈아 이어진 일정들
+    private List<Schedule> saveChain(int chainLength) {
+        List<Schedule> chain = new ArrayList<>();
+        Schedule parent = null;
+        for (int i = 0; i < chainLength; i++) {
+            Instant start = START.plus(Duration.ofDays(i));
+            boolean deleted = i % 2 == 1;
+            Schedule schedule = scheduleRepository.save(Schedule.builder()
+                .organizerId(ORGANIZER_ID)
+                .name("반복 일정 " + i)
+                .type(ScheduleType.PERSONAL)
+                .color(1)
+                .startDatetime(start)
+                .endDatetime(start.plus(Duration.ofHours(1)))
+                .isPublic(true)
+                .isDeleted(deleted)
+                .parentSchedule(parent)
+                .recurrence(deleted ? null : Recurrence.builder()
+                    .freq(RecurrenceFreqType.DAILY)
+                    .intv(1)
+                    .recurrenceDay(EnumSet.noneOf(RecurrenceDayType.class))
+                    .build())
+                .build());
+            chain.add(schedule);
+            parent = schedule;
+        }
+        return chain;
+    }
+}
@@ -13,11 +13,14 @@ import com.edgescheduler.scheduleservice.dto.response.CalculateAvailabilityRespo
 import com.edgescheduler.scheduleservice.dto.response.MeetingRecommendation;
 import com.edgescheduler.scheduleservice.dto.response.MeetingRecommendation.RecommendType;
 import com.edgescheduler.scheduleservice.dto.response.ScheduleListReadResponse.IndividualSchedule;
+import com.edgescheduler.scheduleservice.vo.AvailabilityMask;
 import com.edgescheduler.scheduleservice.vo.IntervalStatus;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -246,7 +249,7 @@ class ScheduleMediateServiceTest {
                         .build()
                 ));
         var recommendationList = scheduleMediateService.findFastestMeeting(
-            requiredMemberSaMap, 3, 17, 0);
+            toMasks(requiredMemberSaMap), 3, 17, 0, 3);
 
         for (MeetingRecommendation recommendation : recommendationList) {
             log.info("recommendation: {}", recommendation);
@@ -321,7 +324,7 @@ class ScheduleMediateServiceTest {
                 ));
 
         var recommendationList = scheduleMediateService.findMostParticipantsMeeting(
-            requiredMemberSaMap, optionalMemberSaMap, 3, 17, 0);
+            toMasks(requiredMemberSaMap), toMasks(optionalMemberSaMap), 3, 17, 0, 3);
 
         for (MeetingRecommendation recommendation : recommendationList) {
             log.info("recommendation: {}", recommendation);
@@ -396,7 +399,7 @@ class ScheduleMediateServiceTest {
                 ));
 
         var recommendationList = scheduleMediateService.findMostParticipantsInWorkingHoursMeeting(
-            requiredMemberSaMap, optionalMemberSaMap, 3, 17, 0);
+            toMasks(requiredMemberSaMap), toMasks(optionalMemberSaMap), 3, 17, 0, 3);
 
         for (MeetingRecommendation recommendation : recommendationList) {
             log.info("recommendation: {}", recommendation);
@@ -407,4 +410,55 @@ class ScheduleMediateServiceTest {
         assertEquals(9, recommendationList.get(0).getStartIndexInclusive());
         assertEquals(12, recommendationList.get(0).getEndIndexExclusive());
     }
+
+    @DisplayName("참여 가능 인원 별 추천은 시작 인덱스마다 센 결과와 같고 추천 개수를 지정할 수 있음")
+    @Test
+    void findMostParticipantsMeetingTopKTest() {
+
+        Random random = new Random(7);
+        IntervalStatus[] statuses = {AVAILABLE, AVAILABLE_IN_WORKING_HOURS, UNAVAILABLE};
+        int intervalCount = 96;
+        int runningIntervalCount = 4;
+        List<AvailabilityMask> requiredMemberMasks = new ArrayList<>();
+        List<AvailabilityMask> optionalMemberMasks = new ArrayList<>();
+        for (int member = 0; member < 30; member++) {
+            IntervalStatus[] availability = new IntervalStatus[intervalCount];
+            for (int i = 0; i < intervalCount; i++) {
+                // 필수 참여자는 대부분 가능하도록
+                availability[i] = member < 2 && random.nextInt(10) < 9 ? AVAILABLE
+                    : statuses[random.nextInt(statuses.length)];
+            }
+            (member < 2 ? requiredMemberMasks : optionalMemberMasks)
+                .add(AvailabilityMask.of(availability));
+        }
+
+        var recommendationList = scheduleMediateService.findMostParticipantsMeeting(
+            requiredMemberMasks, optionalMemberMasks, runningIntervalCount, intervalCount, 0, 10);
+
+        // 시작 인덱스마다 참여 가능 인원을 직접 센 결과
+        List<int[]> expected = new ArrayList<>();
+        for (int start = 0; start + runningIntervalCount <= intervalCount; start++) {
+            int from = start;
+            int to = start + runningIntervalCount;
+            if (requiredMemberMasks.stream().allMatch(mask -> mask.isAvailableWithin(from, to))) {
+                int count = requiredMemberMasks.size() + (int) optionalMemberMasks.stream()
+                    .filter(mask -> mask.isAvailableWithin(from, to)).count();
+                expected.add(new int[]{start, count});
+            }
+        }
+        expected.sort((a, b) -> a[1] != b[1] ? Integer.compare(b[1], a[1])
+            : Integer.compare(a[0], b[0]));
+
+        assertEquals(Math.min(10, expected.size()), recommendationList.size());
+        for (int i = 0; i < recommendationList.size(); i++) {
+            assertEquals(expected.get(i)[0], recommendationList.get(i).getStartIndexInclusive());
+        }
+    }
+
+    private static List<AvailabilityMask> toMasks(
+        Map<Integer, IndividualSchedulesAndAvailability> memberAvailabilityMap) {
+        return memberAvailabilityMap.values().stream()
+            .map(sa -> AvailabilityMask.of(sa.getAvailability()))
+            .toList();
+    }
 }
@@ -0,0 +1,55 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.dto.response.ScheduleDetailReadResponse;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+class ScheduleReadStatementCountTest extends StatementCountTestSupport {
+
+    private static final int ORGANIZER_ID = 621;
+    private static final Instant START = Instant.parse("2024-08-01T00:00:00Z");
+
+    @Override
+    protected int organizerId() {
+        return ORGANIZER_ID;
+    }
+
+    @DisplayName("참석자와 제안이 늘어나도 일정 상세 조회에 쓰는 SQL 문 수는 같음")
+    @Test
+    void getScheduleStatementCountTest() {
+        Long small = saveMeeting(START, 2, 6_200).getId();
+        Long large = saveMeeting(START, 20, 6_300).getId();
+        // 처음 조회는 시간대 조회 등의 준비 비용이 섞이므로 제외
+        simpleScheduleService.getSchedule(ORGANIZER_ID, small);
+
+        long smallStatements = countStatements(small, 2);
+        long largeStatements = countStatements(large, 20);
+
+        log.info("statements - 2 attendees: {}, 20 attendees: {}", smallStatements,
+            largeStatements);
+        assertEquals(smallStatements, largeStatements);
+        // 일정 + 참석자 + 제안 + 반복 한 번, 참석자 프로필 한 번
+        assertTrue(largeStatements <= 2, () -> String.valueOf(largeStatements));
+    }
+
+    private long countStatements(Long scheduleId, int attendees) {
+        resetStatementCount();
+        ScheduleDetailReadResponse response = simpleScheduleService.getSchedule(ORGANIZER_ID,
+            scheduleId);
+        long statements = statementCount();
+
+        assertEquals(attendees, response.getAttendeeList().size());
+        assertNotNull(response.getRecurrenceDetails());
+        assertTrue(response.getAttendeeList().stream()
+            .allMatch(attendee -> attendee.getProposal() != null));
+        assertEquals(0, entityFetchCount());
+        return statements;
+    }
+}
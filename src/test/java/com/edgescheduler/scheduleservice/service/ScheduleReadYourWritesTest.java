@@ -0,0 +1,124 @@
+package com.edgescheduler.scheduleservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.config.datasource.ReplicaLagChecker;
+import com.edgescheduler.scheduleservice.config.datasource.ReplicaRoutingDataSource;
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest;
+import com.edgescheduler.scheduleservice.dto.response.ScheduleListReadResponse.IndividualSchedule;
+import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 쓰기가 전혀 복제되지 않는 레플리카를 두고, 방금 쓴 일정이 기간 조회에 보이는지 확인
+ * 레플리카는 마이그레이션만 적용된 별도의 DB 이다.
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.url=" + ScheduleReadYourWritesTest.REPLICA_URL,
+    "datasource.replica.lag-query=SELECT 0",
+    "datasource.replica.health-check-interval=PT1H",
+    "outbox.relay.interval=PT1H"})
+class ScheduleReadYourWritesTest {
+
+    static final String REPLICA_URL =
+        "jdbc:h2:mem:stale-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int MEMBER_ID = 701;
+    private static final int REPLICA_ONLY_MEMBER_ID = 702;
+
+    static {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @Autowired
+    private SimpleScheduleService simpleScheduleService;
+
+    @Autowired
+    private MemberTimezoneRepository memberTimezoneRepository;
+
+    @Autowired
+    private ReplicaLagChecker replicaLagChecker;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        // 시간대는 이전에 복제된 상태
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        for (int memberId : new int[]{MEMBER_ID, REPLICA_ONLY_MEMBER_ID}) {
+            memberTimezoneRepository.save(new MemberTimezone(memberId, "Asia/Seoul"));
+            replica.update("DELETE FROM member_timezone WHERE id = ?", memberId);
+            replica.update("INSERT INTO member_timezone (id, zone_id) VALUES (?, ?)", memberId,
+                "Asia/Seoul");
+        }
+        replicaLagChecker.check();
+        assertTrue(routingDataSource.isReplicaAvailable());
+    }
+
+    @DisplayName("일정을 등록한 직후의 기간 조회에 등록한 일정이 보임")
+    @Test
+    void readScheduleAfterWriteTest() {
+        LocalDateTime start = LocalDateTime.of(2024, 9, 2, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 9, 2, 23, 59);
+        // 등록 전 조회로 빈 결과가 캐시된 상태
+        assertTrue(simpleScheduleService.getScheduleByPeriod(MEMBER_ID, start, end)
+            .getScheduleList().isEmpty());
+
+        Long scheduleId = simpleScheduleService.createSchedule(ScheduleCreateRequest.builder()
+            .organizerId(MEMBER_ID)
+            .name("일정")
+            .description("등록 직후 조회")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(LocalDateTime.of(2024, 9, 2, 9, 0))
+            .endDatetime(LocalDateTime.of(2024, 9, 2, 10, 0))
+            .isPublic(true)
+            .isRecurrence(false)
+            .build()).getScheduleId();
+
+        List<IndividualSchedule> scheduleList = simpleScheduleService.getScheduleByPeriod(
+            MEMBER_ID, start, end).getScheduleList();
+
+        assertEquals(0, new JdbcTemplate(replicaDataSource).queryForObject(
+            "SELECT COUNT(*) FROM schedule WHERE organizer_id = ?", Integer.class, MEMBER_ID));
+        assertEquals(List.of(scheduleId),
+            scheduleList.stream().map(IndividualSchedule::getScheduleId).toList());
+    }
+
+    @DisplayName("최근에 일정을 쓰지 않은 사용자의 기간 조회는 레플리카에서 조회")
+    @Test
+    void readScheduleFromReplicaTest() {
+        // 레플리카에만 있는 일정으로 어디에서 조회했는지 구분
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO schedule (organizer_id, name, "
+                + "type, color, start_datetime, end_datetime, is_public, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", REPLICA_ONLY_MEMBER_ID, "레플리카 일정",
+            ScheduleType.PERSONAL.name(), 1, Timestamp.from(Instant.parse("2024-09-09T03:00:00Z")),
+            Timestamp.from(Instant.parse("2024-09-09T04:00:00Z")), true, false);
+
+        List<IndividualSchedule> scheduleList = simpleScheduleService.getScheduleByPeriod(
+            REPLICA_ONLY_MEMBER_ID, LocalDateTime.of(2024, 9, 9, 0, 0),
+            LocalDateTime.of(2024, 9, 9, 23, 59)).getScheduleList();
+
+        assertEquals(List.of("레플리카 일정"),
+            scheduleList.stream().map(IndividualSchedule::getName).toList());
+    }
+}
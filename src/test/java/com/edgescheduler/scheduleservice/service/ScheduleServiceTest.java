@@ -3,6 +3,7 @@ package com.edgescheduler.scheduleservice.service;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.edgescheduler.scheduleservice.domain.Attendee;
@@ -13,6 +14,7 @@ import com.edgescheduler.scheduleservice.domain.Recurrence;
 import com.edgescheduler.scheduleservice.domain.RecurrenceDayType;
 import com.edgescheduler.scheduleservice.domain.RecurrenceFreqType;
 import com.edgescheduler.scheduleservice.domain.Schedule;
+import com.edgescheduler.scheduleservice.domain.ScheduleOccurrence;
 import com.edgescheduler.scheduleservice.domain.ScheduleType;
 import com.edgescheduler.scheduleservice.dto.request.ResponseScheduleProposal;
 import com.edgescheduler.scheduleservice.dto.request.ScheduleCreateRequest;
@@ -28,9 +30,14 @@ import com.edgescheduler.scheduleservice.repository.AttendeeRepository;
 import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
 import com.edgescheduler.scheduleservice.repository.ProposalRepository;
 import com.edgescheduler.scheduleservice.repository.RecurrenceRepository;
+import com.edgescheduler.scheduleservice.repository.ScheduleOccurrenceRepository;
 import com.edgescheduler.scheduleservice.repository.ScheduleRepository;
 import com.edgescheduler.scheduleservice.util.AlterTimeUtils;
+import com.edgescheduler.scheduleservice.util.RecurrenceUtils;
+import com.edgescheduler.scheduleservice.vo.OccurrenceVO;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -45,6 +52,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 @Slf4j
@@ -66,6 +75,12 @@ public class ScheduleServiceTest {
     private RecurrenceRepository recurrenceRepository;
     @Autowired
     private ProposalRepository proposalRepository;
+    @Autowired
+    private ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    @Autowired
+    private ScheduleOccurrenceService scheduleOccurrenceService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @DisplayName("반복 일정 등록")
     @Test
@@ -631,6 +646,108 @@ public class ScheduleServiceTest {
 //        );
 //    }
 
+    @DisplayName("회의 수정 시 유지되는 참석자의 응답은 그대로 두고 바뀐 참석자만 반영")
+    @Test
+    void updateMeetingAttendeeDiffTest() {
+        memberTimezoneRepository.save(MemberTimezone.builder()
+            .id(601)
+            .zoneId("Asia/Seoul")
+            .build());
+
+        Schedule schedule = Schedule.builder()
+            .organizerId(601)
+            .name("수정 전 회의명")
+            .description("수정 전 회의 내용")
+            .type(ScheduleType.MEETING)
+            .color(3)
+            .startDatetime(
+                AlterTimeUtils.LocalDateTimeToInstant(LocalDateTime.of(2024, 5, 22, 7, 0),
+                    ZoneId.of("Asia/Seoul")))
+            .endDatetime(
+                AlterTimeUtils.LocalDateTimeToInstant(LocalDateTime.of(2024, 5, 22, 8, 0),
+                    ZoneId.of("Asia/Seoul")))
+            .isPublic(true)
+            .isDeleted(false)
+            .build();
+        Schedule savedSchedule = scheduleRepository.save(schedule);
+
+        Attendee organizer = attendeeRepository.save(Attendee.builder()
+            .schedule(savedSchedule)
+            .memberId(601)
+            .isRequired(true)
+            .status(AttendeeStatus.ACCEPTED)
+            .build());
+        Attendee accepted = attendeeRepository.save(Attendee.builder()
+            .schedule(savedSchedule)
+            .memberId(602)
+            .isRequired(false)
+            .status(AttendeeStatus.ACCEPTED)
+            .reason("참석 가능")
+            .build());
+        Proposal proposal = proposalRepository.save(Proposal.builder()
+            .startDatetime(
+                AlterTimeUtils.LocalDateTimeToInstant(LocalDateTime.of(2024, 5, 22, 11, 0),
+                    ZoneId.of("Asia/Seoul")))
+            .endDatetime(
+                AlterTimeUtils.LocalDateTimeToInstant(LocalDateTime.of(2024, 5, 22, 12, 0),
+                    ZoneId.of("Asia/Seoul")))
+            .build());
+        attendeeRepository.save(Attendee.builder()
+            .schedule(savedSchedule)
+            .memberId(603)
+            .isRequired(true)
+            .status(AttendeeStatus.DECLINED)
+            .reason("시간이 안돼서")
+            .proposal(proposal)
+            .build());
+
+        // 601, 602 유지 (602 는 필수 참석으로 변경), 603 제외, 604 추가
+        ScheduleUpdateRequest scheduleUpdateRequest = ScheduleUpdateRequest.builder()
+            .name("수정 후 회의명")
+            .description("수정 전 회의 내용")
+            .type(ScheduleType.MEETING)
+            .color(3)
+            .startDatetime(LocalDateTime.of(2024, 5, 22, 7, 0))
+            .endDatetime(LocalDateTime.of(2024, 5, 22, 8, 0))
+            .isPublic(true)
+            .isRecurrence(false)
+            .isOneOff(true)
+            .nameIsChanged(true)
+            .descriptionIsChanged(false)
+            .timeIsChanged(false)
+            .attendeeList(List.of(
+                ScheduleUpdateRequest.ScheduleAttendee.builder().memberId(601).isRequired(true)
+                    .build(),
+                ScheduleUpdateRequest.ScheduleAttendee.builder().memberId(602).isRequired(true)
+                    .build(),
+                ScheduleUpdateRequest.ScheduleAttendee.builder().memberId(604).isRequired(false)
+                    .build()))
+            .build();
+
+        simpleScheduleService.updateSchedule(601, savedSchedule.getId(), scheduleUpdateRequest);
+
+        List<Attendee> attendees = attendeeRepository.findBySchedule(savedSchedule);
+        Attendee maintained = attendees.stream()
+            .filter(attendee -> attendee.getMemberId().equals(602)).findFirst().orElseThrow();
+        Attendee added = attendees.stream()
+            .filter(attendee -> attendee.getMemberId().equals(604)).findFirst().orElseThrow();
+        assertAll(
+            () -> assertEquals(3, attendees.size()),
+            () -> assertTrue(attendees.stream()
+                .noneMatch(attendee -> attendee.getMemberId().equals(603))),
+            () -> assertTrue(proposalRepository.findById(proposal.getId()).isEmpty()),
+            // 유지되는 참석자는 기존 행과 응답을 그대로 가진다
+            () -> assertEquals(organizer.getId(), attendees.stream()
+                .filter(attendee -> attendee.getMemberId().equals(601)).findFirst()
+                .orElseThrow().getId()),
+            () -> assertEquals(accepted.getId(), maintained.getId()),
+            () -> assertEquals(AttendeeStatus.ACCEPTED, maintained.getStatus()),
+            () -> assertEquals("참석 가능", maintained.getReason()),
+            () -> assertTrue(maintained.getIsRequired()),
+            () -> assertEquals(AttendeeStatus.PENDING, added.getStatus())
+        );
+    }
+
     @DisplayName("회의 외 일정 모두 삭제")
     @Test
     void deleteAllScheduleExceptMeetingTest() {
@@ -1235,6 +1352,293 @@ public class ScheduleServiceTest {
         }
     }
 
+    @DisplayName("선택 수정 또는 삭제된 반복은 기간별 조회에서 제외")
+    @Test
+    void getRecurrenceScheduleWithModifiedOrDeletedOccurrenceTest() {
+        memberTimezoneRepository.save(MemberTimezone.builder()
+            .id(7)
+            .zoneId("Asia/Seoul")
+            .build());
+
+        Schedule recurrenceSchedule = scheduleRepository.save(Schedule.builder()
+            .organizerId(7)
+            .name("매일 반복 일정")
+            .description("매일 반복 일정")
+            .type(ScheduleType.PERSONAL)
+            .startDatetime(
+                AlterTimeUtils.LocalDateTimeToInstant(LocalDateTime.of(2024, 5, 1, 9, 0),
+                    ZoneId.of("Asia/Seoul")))
+            .endDatetime(
+                AlterTimeUtils.LocalDateTimeToInstant(LocalDateTime.of(2024, 5, 1, 10, 0),
+                    ZoneId.of("Asia/Seoul")))
+            .isDeleted(false)
+            .isPublic(true)
+            .color(1)
+            .recurrence(Recurrence.builder()
+                .count(5)
+                .freq(RecurrenceFreqType.DAILY)
+                .intv(1)
+                .build())
+            .build());
+
+        // 5월 2일 반복 삭제
+        simpleScheduleService.deleteSchedule(7, recurrenceSchedule.getId(),
+            ScheduleDeleteRequest.builder()
+                .deleteRange(ScheduleDeleteRange.ONE)
+                .deleteStartDatetime(LocalDateTime.of(2024, 5, 2, 9, 0))
+                .deleteEndDatetime(LocalDateTime.of(2024, 5, 2, 10, 0))
+                .build());
+        // 5월 3일 반복만 오후로 수정
+        ScheduleUpdateResponse modified = simpleScheduleService.updateSchedule(7,
+            recurrenceSchedule.getId(), ScheduleUpdateRequest.builder()
+                .name("수정된 반복")
+                .description("수정된 반복")
+                .type(ScheduleType.PERSONAL)
+                .color(1)
+                .startDatetime(LocalDateTime.of(2024, 5, 3, 13, 0))
+                .endDatetime(LocalDateTime.of(2024, 5, 3, 14, 0))
+                .parentStartDatetime(LocalDateTime.of(2024, 5, 3, 9, 0))
+                .parentEndDatetime(LocalDateTime.of(2024, 5, 3, 10, 0))
+                .isPublic(true)
+                .isRecurrence(true)
+                .isOneOff(true)
+                .build());
+
+        List<IndividualSchedule> scheduleList = simpleScheduleService.getScheduleByPeriod(7,
+            LocalDateTime.of(2024, 5, 1, 0, 0),
+            LocalDateTime.of(2024, 5, 6, 0, 0)).getScheduleList();
+
+        assertEquals(
+            new TreeSet<>(List.of(LocalDateTime.of(2024, 5, 1, 9, 0),
+                LocalDateTime.of(2024, 5, 3, 13, 0),
+                LocalDateTime.of(2024, 5, 4, 9, 0),
+                LocalDateTime.of(2024, 5, 5, 9, 0))),
+            new TreeSet<>(scheduleList.stream().map(IndividualSchedule::getStartDatetime).toList()));
+        assertTrue(scheduleList.stream()
+            .anyMatch(schedule -> schedule.getScheduleId().equals(modified.getScheduleId())));
+    }
+
+    @DisplayName("미리 생성된 반복으로 기간별 조회 후 일정 삭제시 반복도 삭제")
+    @Test
+    void getMaterializedRecurrenceScheduleTest() {
+        memberTimezoneRepository.save(MemberTimezone.builder()
+            .id(8)
+            .zoneId("Asia/Seoul")
+            .build());
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        Long scheduleId = simpleScheduleService.createSchedule(ScheduleCreateRequest.builder()
+            .organizerId(8)
+            .name("매일 반복 일정")
+            .description("미리 생성된 반복 조회 테스트")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(today.atTime(9, 0))
+            .endDatetime(today.atTime(10, 0))
+            .isPublic(true)
+            .isRecurrence(true)
+            .recurrence(RecurrenceDetails.builder()
+                .freq("DAILY")
+                .intv(1)
+                .build())
+            .build()).getScheduleId();
+        Schedule savedSchedule = scheduleRepository.findById(scheduleId).orElseThrow();
+
+        Instant start = AlterTimeUtils.LocalDateTimeToInstant(today.plusDays(7).atStartOfDay(),
+            ZoneId.of("Asia/Seoul"));
+        Instant end = AlterTimeUtils.LocalDateTimeToInstant(today.plusDays(14).atStartOfDay(),
+            ZoneId.of("Asia/Seoul"));
+        assertEquals(7,
+            scheduleOccurrenceRepository.findByMemberIdsWithinPeriod(List.of(8), start, end)
+                .size());
+
+        // 8일 뒤 반복만 삭제
+        simpleScheduleService.deleteSchedule(8, scheduleId, ScheduleDeleteRequest.builder()
+            .deleteRange(ScheduleDeleteRange.ONE)
+            .deleteStartDatetime(today.plusDays(8).atTime(9, 0))
+            .deleteEndDatetime(today.plusDays(8).atTime(10, 0))
+            .build());
+
+        List<IndividualSchedule> scheduleList = simpleScheduleService.getScheduleByPeriod(8,
+            today.plusDays(7).atStartOfDay(), today.plusDays(14).atStartOfDay()).getScheduleList();
+        assertEquals(6, scheduleList.size());
+        assertFalse(scheduleList.stream().anyMatch(
+            schedule -> schedule.getStartDatetime().equals(today.plusDays(8).atTime(9, 0))));
+        assertEquals(
+            RecurrenceUtils.expandWithinPeriod(savedSchedule.getRecurrence(),
+                    savedSchedule.getStartDatetime(), savedSchedule.getEndDatetime(), start, end,
+                    ZoneId.of("Asia/Seoul")).stream()
+                .map(OccurrenceVO::startDatetime)
+                .filter(startDatetime -> !startDatetime.equals(today.plusDays(8).atTime(9, 0)))
+                .toList(),
+            scheduleList.stream().map(IndividualSchedule::getStartDatetime).toList());
+
+        simpleScheduleService.deleteSchedule(8, scheduleId, ScheduleDeleteRequest.builder()
+            .deleteRange(ScheduleDeleteRange.ALL)
+            .build());
+        assertTrue(
+            scheduleOccurrenceRepository.findByMemberIdsWithinPeriod(List.of(8), start, end)
+                .isEmpty());
+    }
+
+    @DisplayName("이미 생성된 반복을 다시 저장해도 중복되지 않음")
+    @Test
+    void saveDuplicatedOccurrenceTest() {
+        memberTimezoneRepository.save(MemberTimezone.builder()
+            .id(801)
+            .zoneId("Asia/Seoul")
+            .build());
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        simpleScheduleService.createSchedule(ScheduleCreateRequest.builder()
+            .organizerId(801)
+            .name("매일 반복 일정")
+            .description("반복 중복 저장 테스트")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(today.atTime(9, 0))
+            .endDatetime(today.atTime(10, 0))
+            .isPublic(true)
+            .isRecurrence(true)
+            .recurrence(RecurrenceDetails.builder()
+                .freq("DAILY")
+                .intv(1)
+                .build())
+            .build());
+        Instant start = AlterTimeUtils.LocalDateTimeToInstant(today.atStartOfDay(),
+            ZoneId.of("Asia/Seoul"));
+        Instant end = start.plus(Duration.ofDays(7));
+        List<ScheduleOccurrence> occurrences = scheduleOccurrenceRepository
+            .findByMemberIdsWithinPeriod(List.of(801), start, end);
+
+        // 동시에 실행된 다른 생성이 같은 반복을 저장하는 경우
+        scheduleOccurrenceRepository.saveAll(occurrences.stream()
+            .map(occurrence -> ScheduleOccurrence.builder()
+                .scheduleId(occurrence.getScheduleId())
+                .memberId(occurrence.getMemberId())
+                .type(occurrence.getType())
+                .startDatetime(occurrence.getStartDatetime())
+                .endDatetime(occurrence.getEndDatetime())
+                .build())
+            .toList());
+
+        assertEquals(7, occurrences.size());
+        assertEquals(occurrences.stream().map(ScheduleOccurrence::getId).toList(),
+            scheduleOccurrenceRepository.findByMemberIdsWithinPeriod(List.of(801), start, end)
+                .stream().map(ScheduleOccurrence::getId).toList());
+    }
+
+    @DisplayName("시간대를 모르는 주최자의 반복은 미리 생성하지 않고 조회 시점에 계산하도록 둠")
+    @Test
+    void materializeWithoutTimezoneTest() {
+        Instant start = Instant.parse("2024-06-03T00:00:00Z");
+        Schedule schedule = scheduleRepository.save(Schedule.builder()
+            .organizerId(811)
+            .name("시간대 없는 반복 일정")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(start)
+            .endDatetime(start.plus(Duration.ofHours(1)))
+            .isPublic(true)
+            .isDeleted(false)
+            .recurrence(Recurrence.builder()
+                .freq(RecurrenceFreqType.DAILY)
+                .intv(1)
+                .recurrenceDay(EnumSet.noneOf(RecurrenceDayType.class))
+                .materializedFrom(start)
+                .materializedUntil(start.plus(Duration.ofDays(1)))
+                .build())
+            .build());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            scheduleOccurrenceService.materialize(
+                scheduleRepository.findById(schedule.getId()).orElseThrow()));
+
+        Recurrence recurrence = recurrenceRepository.findById(schedule.getRecurrence().getId())
+            .orElseThrow();
+        assertNull(recurrence.getMaterializedFrom());
+        assertNull(recurrence.getMaterializedUntil());
+        assertTrue(scheduleOccurrenceRepository.findByMemberIdsWithinPeriod(List.of(811),
+            start, start.plus(Duration.ofDays(30))).isEmpty());
+    }
+
+    @DisplayName("여러 사용자의 일정을 각자의 시간대로 한 번에 기간별 조회")
+    @Test
+    void getSchedulesByPeriodForMembersTest() {
+        memberTimezoneRepository.save(MemberTimezone.builder()
+            .id(21)
+            .zoneId("Asia/Seoul")
+            .build());
+        memberTimezoneRepository.save(MemberTimezone.builder()
+            .id(22)
+            .zoneId("America/New_York")
+            .build());
+
+        // 21번 사용자의 반복 아닌 일정
+        Schedule oneOff = scheduleRepository.save(Schedule.builder()
+            .organizerId(21)
+            .name("개인 일정")
+            .type(ScheduleType.PERSONAL)
+            .color(1)
+            .startDatetime(Instant.parse("2024-05-07T01:00:00Z"))
+            .endDatetime(Instant.parse("2024-05-07T02:00:00Z"))
+            .isPublic(true)
+            .isDeleted(false)
+            .build());
+        // 22번 사용자의 매일 반복 일정
+        Schedule daily = scheduleRepository.save(Schedule.builder()
+            .organizerId(22)
+            .name("매일 반복 일정")
+            .type(ScheduleType.WORKING)
+            .color(1)
+            .startDatetime(Instant.parse("2024-05-01T13:00:00Z"))
+            .endDatetime(Instant.parse("2024-05-01T21:00:00Z"))
+            .isPublic(true)
+            .isDeleted(false)
+            .recurrence(Recurrence.builder()
+                .freq(RecurrenceFreqType.DAILY)
+                .intv(1)
+                .build())
+            .build());
+        // 두 사용자가 참여하는 회의
+        Schedule meeting = Schedule.builder()
+            .organizerId(21)
+            .name("회의")
+            .type(ScheduleType.MEETING)
+            .color(1)
+            .startDatetime(Instant.parse("2024-05-08T00:00:00Z"))
+            .endDatetime(Instant.parse("2024-05-08T01:00:00Z"))
+            .isPublic(true)
+            .isDeleted(false)
+            .build();
+        meeting.setAttendees(List.of(
+            Attendee.builder().schedule(meeting).memberId(21).isRequired(true)
+                .status(AttendeeStatus.ACCEPTED).build(),
+            Attendee.builder().schedule(meeting).memberId(22).isRequired(false)
+                .status(AttendeeStatus.PENDING).build()));
+        scheduleRepository.save(meeting);
+
+        var result = simpleScheduleService.getSchedulesByPeriodForMembers(List.of(21, 22),
+            Instant.parse("2024-05-06T00:00:00Z"), Instant.parse("2024-05-09T00:00:00Z"));
+
+        List<IndividualSchedule> seoulSchedules = result.get(21);
+        List<IndividualSchedule> newYorkSchedules = result.get(22);
+        assertAll(
+            () -> assertEquals(2, seoulSchedules.size()),
+            () -> assertTrue(seoulSchedules.stream().anyMatch(
+                schedule -> schedule.getScheduleId().equals(oneOff.getId())
+                    && schedule.getStartDatetime().equals(LocalDateTime.of(2024, 5, 7, 10, 0)))),
+            () -> assertTrue(seoulSchedules.stream().anyMatch(
+                schedule -> schedule.getScheduleId().equals(meeting.getId())
+                    && schedule.getStartDatetime().equals(LocalDateTime.of(2024, 5, 8, 9, 0)))),
+            () -> assertEquals(3, newYorkSchedules.stream()
+                .filter(schedule -> schedule.getScheduleId().equals(daily.getId())).count()),
+            () -> assertTrue(newYorkSchedules.stream().anyMatch(
+                schedule -> schedule.getScheduleId().equals(meeting.getId())
+                    && schedule.getStartDatetime().equals(LocalDateTime.of(2024, 5, 7, 20, 0))
+                    && schedule.getMeetingDetail().getStatus().equals("PENDING")))
+        );
+    }
+
 //    @DisplayName("회의 참석 여부 선택하기")
 //    @Test
 //    void decideMeetingAttendanceTest() {
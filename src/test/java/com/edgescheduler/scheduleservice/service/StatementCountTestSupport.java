@@ -0,0 +1,128 @@
+package com.edgescheduler.scheduleservice.service;
+
+import com.edgescheduler.scheduleservice.domain.Attendee;
+import com.edgescheduler.scheduleservice.domain.AttendeeStatus;
+import com.edgescheduler.scheduleservice.domain.MemberProfile;
+import com.edgescheduler.scheduleservice.domain.MemberTimezone;
+import com.edgescheduler.scheduleservice.domain.Proposal;
+import com.edgescheduler.scheduleservice.domain.Recurrence;
+import com.edgescheduler.scheduleservice.domain.RecurrenceDayType;
+import com.edgescheduler.scheduleservice.domain.RecurrenceFreqType;
+import com.edgescheduler.scheduleservice.domain.Schedule;
+import com.edgescheduler.scheduleservice.domain.ScheduleType;
+import com.edgescheduler.scheduleservice.repository.AttendeeRepository;
+import com.edgescheduler.scheduleservice.repository.MemberProfileRepository;
+import com.edgescheduler.scheduleservice.repository.MemberTimezoneRepository;
+import com.edgescheduler.scheduleservice.repository.ProposalRepository;
+import com.edgescheduler.scheduleservice.repository.ScheduleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 일정 서비스가 쓰는 SQL 문 수를 세는 테스트의 공통 설정
+ * <p>
+ * 설정을 여기에만 두어 SQL 문 수 테스트들이 하나의 애플리케이션 컨텍스트를 함께 쓰게 한다. 테스트마다 다른 주최자를 써서 서로의 데이터가 섞이지
+ * 않게 한다.
+ */
+// 아웃박스 릴레이의 주기적인 조회가 통계에 섞이지 않도록 늦춘다
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+    "outbox.relay.interval=PT1H"})
+abstract class StatementCountTestSupport {
+
+    @Autowired
+    protected SimpleScheduleService simpleScheduleService;
+
+    @Autowired
+    protected ScheduleRepository scheduleRepository;
+
+    @Autowired
+    protected AttendeeRepository attendeeRepository;
+
+    @Autowired
+    protected ProposalRepository proposalRepository;
+
+    @Autowired
+    protected MemberTimezoneRepository memberTimezoneRepository;
+
+    @Autowired
+    protected MemberProfileRepository memberProfileRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    protected abstract int organizerId();
+
+    @BeforeEach
+    void setUpOrganizer() {
+        memberTimezoneRepository.save(new MemberTimezone(organizerId(), "Asia/Seoul"));
+        memberProfileRepository.save(
+            MemberProfile.builder().id(organizerId()).name("주최자").build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 이후에 준비하는 SQL 문부터 센다
+    protected void resetStatementCount() {
+        statistics.clear();
+    }
+
+    // 마지막으로 초기화한 이후 준비한 SQL 문 수
+    protected long statementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 마지막으로 초기화한 이후 지연 로딩 등으로 따로 조회한 엔티티 수
+    protected long entityFetchCount() {
+        return statistics.getEntityFetchCount();
+    }
+
+    // 참석자 모두 시간을 제안한 반복 회의, 주최자 외의 참석자는 memberIdFrom 다음 번호부터 쓴다
+    protected Schedule saveMeeting(Instant start, int attendees, int memberIdFrom) {
+        Schedule schedule = scheduleRepository.save(Schedule.builder()
+            .organizerId(organizerId())
+            .name("회의")
+            .type(ScheduleType.MEETING)
+            .color(1)
+            .startDatetime(start)
+            .endDatetime(start.plus(Duration.ofHours(1)))
+            .isPublic(true)
+            .isDeleted(false)
+            .recurrence(Recurrence.builder()
+                .freq(RecurrenceFreqType.WEEKLY)
+                .intv(1)
+                .recurrenceDay(EnumSet.of(RecurrenceDayType.MON))
+                .build())
+            .build());
+        for (int i = 0; i < attendees; i++) {
+            int memberId = i == 0 ? organizerId() : memberIdFrom + i;
+            if (memberId != organizerId()) {
+                memberProfileRepository.save(
+                    MemberProfile.builder().id(memberId).name("참석자 " + memberId).build());
+            }
+            Proposal proposal = proposalRepository.save(Proposal.builder()
+                .startDatetime(start.plus(Duration.ofHours(2)))
+                .endDatetime(start.plus(Duration.ofHours(3)))
+                .build());
+            attendeeRepository.save(Attendee.builder()
+                .schedule(schedule)
+                .memberId(memberId)
+                .isRequired(true)
+                .status(AttendeeStatus.DECLINED)
+                .proposal(proposal)
+                .build());
+        }
+        return schedule;
+    }
+}
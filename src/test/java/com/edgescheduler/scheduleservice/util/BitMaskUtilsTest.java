@@ -0,0 +1,77 @@
+package com.edgescheduler.scheduleservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BitMaskUtilsTest {
+
+    @DisplayName("워드 경계를 걸치는 범위 설정")
+    @Test
+    void setRangeAcrossWordsTest() {
+        long[] bits = BitMaskUtils.create(200);
+        BitMaskUtils.setRange(bits, 60, 130);
+
+        assertFalse(BitMaskUtils.get(bits, 59));
+        assertTrue(BitMaskUtils.get(bits, 60));
+        assertTrue(BitMaskUtils.get(bits, 64));
+        assertTrue(BitMaskUtils.get(bits, 129));
+        assertFalse(BitMaskUtils.get(bits, 130));
+        assertEquals(60, BitMaskUtils.nextSetBit(bits, 0, 200));
+        assertEquals(130, BitMaskUtils.nextClearBit(bits, 60, 200));
+        assertEquals(200, BitMaskUtils.nextSetBit(bits, 130, 200));
+    }
+
+    @Nested
+    @DisplayName("연속 구간의 시작 인덱스")
+    class WindowStartsTest {
+
+        @DisplayName("길이 이상 연속된 구간 안에서 시작할 수 있는 인덱스만 설정")
+        @Test
+        void windowStartsTest() {
+            long[] bits = BitMaskUtils.create(20);
+            BitMaskUtils.setRange(bits, 2, 5);
+            BitMaskUtils.setRange(bits, 8, 16);
+
+            long[] starts = BitMaskUtils.windowStarts(bits, 20, 4);
+
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = BitMaskUtils.nextSetBit(starts, 0, 20); i < 20;
+                i = BitMaskUtils.nextSetBit(starts, i + 1, 20)) {
+                indexes.add(i);
+            }
+            assertEquals(List.of(8, 9, 10, 11, 12), indexes);
+        }
+
+        @DisplayName("하나씩 확인한 결과와 동일")
+        @Test
+        void sameAsNaiveTest() {
+            Random random = new Random(42);
+            for (int trial = 0; trial < 200; trial++) {
+                int size = 1 + random.nextInt(300);
+                int length = 1 + random.nextInt(12);
+                long[] bits = BitMaskUtils.create(size);
+                for (int i = 0; i < size; i++) {
+                    if (random.nextInt(10) < 8) {
+                        BitMaskUtils.setRange(bits, i, i + 1);
+                    }
+                }
+
+                long[] starts = BitMaskUtils.windowStarts(bits, size, length);
+
+                for (int s = 0; s < size; s++) {
+                    boolean expected = s + length <= size
+                        && BitMaskUtils.nextClearBit(bits, s, s + length) == s + length;
+                    assertEquals(expected, BitMaskUtils.get(starts, s), size + " " + length + " " + s);
+                }
+            }
+        }
+    }
+}
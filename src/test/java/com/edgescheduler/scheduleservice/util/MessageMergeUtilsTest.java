@@ -0,0 +1,77 @@
+package com.edgescheduler.scheduleservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage;
+import com.edgescheduler.scheduleservice.message.MeetingUpdateMessage.UpdatedField;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessageMergeUtilsTest {
+
+    private static final LocalDateTime T9 = LocalDateTime.of(2024, 5, 2, 9, 0);
+
+    @DisplayName("처음 이전 시간과 마지막 수정 시간, 변경 항목 합집합으로 합침")
+    @Test
+    void mergeTimeAndFieldsTest() {
+        MeetingUpdateMessage renamed = MeetingUpdateMessage.builder()
+            .scheduleId(1L).scheduleName("회의").updatedStartTime(T9)
+            .updatedEndTime(T9.plusHours(1)).maintainedAttendeeIds(List.of(1, 2))
+            .addedAttendeeIds(List.of()).removedAttendeeIds(List.of())
+            .updatedFields(List.of(UpdatedField.TITLE)).build();
+        MeetingUpdateMessage firstDrag = MeetingUpdateMessage.builder()
+            .scheduleId(1L).scheduleName("회의").previousStartTime(T9)
+            .previousEndTime(T9.plusHours(1)).updatedStartTime(T9.plusHours(1))
+            .updatedEndTime(T9.plusHours(2)).maintainedAttendeeIds(List.of(1, 2))
+            .addedAttendeeIds(List.of()).removedAttendeeIds(List.of())
+            .updatedFields(List.of(UpdatedField.TIME)).build();
+        MeetingUpdateMessage secondDrag = MeetingUpdateMessage.builder()
+            .scheduleId(1L).scheduleName("주간 회의").previousStartTime(T9.plusHours(1))
+            .previousEndTime(T9.plusHours(2)).updatedStartTime(T9.plusHours(3))
+            .updatedEndTime(T9.plusHours(4)).maintainedAttendeeIds(List.of(1, 2))
+            .addedAttendeeIds(List.of()).removedAttendeeIds(List.of())
+            .updatedFields(List.of(UpdatedField.TIME, UpdatedField.TITLE)).build();
+
+        MeetingUpdateMessage merged = MessageMergeUtils.mergeMeetingUpdates(
+            List.of(renamed, firstDrag, secondDrag));
+
+        assertEquals("주간 회의", merged.getScheduleName());
+        assertEquals(T9, merged.getPreviousStartTime());
+        assertEquals(T9.plusHours(1), merged.getPreviousEndTime());
+        assertEquals(T9.plusHours(3), merged.getUpdatedStartTime());
+        assertEquals(T9.plusHours(4), merged.getUpdatedEndTime());
+        assertEquals(List.of(UpdatedField.TITLE, UpdatedField.TIME), merged.getUpdatedFields());
+    }
+
+    @DisplayName("참석자는 처음과 마지막을 비교해 다시 계산")
+    @Test
+    void mergeAttendeesTest() {
+        // 1, 2, 3 -> 1, 2, 4 (3 제외, 4 추가)
+        MeetingUpdateMessage first = MeetingUpdateMessage.builder()
+            .maintainedAttendeeIds(List.of(1, 2)).addedAttendeeIds(List.of(4))
+            .removedAttendeeIds(List.of(3)).build();
+        // 1, 2, 4 -> 2, 3, 5 (1, 4 제외, 3, 5 추가)
+        MeetingUpdateMessage second = MeetingUpdateMessage.builder()
+            .maintainedAttendeeIds(List.of(2)).addedAttendeeIds(List.of(3, 5))
+            .removedAttendeeIds(List.of(1, 4)).build();
+
+        MeetingUpdateMessage merged = MessageMergeUtils.mergeMeetingUpdates(
+            List.of(first, second));
+
+        // 1, 2, 3 -> 2, 3, 5
+        assertEquals(List.of(2, 3), merged.getMaintainedAttendeeIds());
+        assertEquals(List.of(5), merged.getAddedAttendeeIds());
+        assertEquals(List.of(1), merged.getRemovedAttendeeIds());
+    }
+
+    @DisplayName("메시지가 하나면 그대로 반환")
+    @Test
+    void singleUpdateTest() {
+        MeetingUpdateMessage update = MeetingUpdateMessage.builder().scheduleId(1L).build();
+
+        assertSame(update, MessageMergeUtils.mergeMeetingUpdates(List.of(update)));
+    }
+}
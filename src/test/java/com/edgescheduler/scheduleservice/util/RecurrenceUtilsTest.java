@@ -0,0 +1,186 @@
+package com.edgescheduler.scheduleservice.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.edgescheduler.scheduleservice.domain.Recurrence;
+import com.edgescheduler.scheduleservice.domain.RecurrenceDayType;
+import com.edgescheduler.scheduleservice.domain.RecurrenceFreqType;
+import com.edgescheduler.scheduleservice.vo.OccurrenceVO;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceUtilsTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Nested
+    @DisplayName("조회 기간 내 반복 생성")
+    class ExpandWithinPeriodTest {
+
+        @DisplayName("오래된 일 반복은 조회 기간의 반복만 생성")
+        @Test
+        void oldDailyRecurrenceTest() {
+            Recurrence recurrence = Recurrence.builder()
+                .freq(RecurrenceFreqType.DAILY)
+                .intv(1)
+                .build();
+
+            List<OccurrenceVO> occurrences = RecurrenceUtils.expandWithinPeriod(recurrence,
+                toInstant(LocalDateTime.of(2022, 5, 2, 9, 0), SEOUL),
+                toInstant(LocalDateTime.of(2022, 5, 2, 9, 30), SEOUL),
+                toInstant(LocalDateTime.of(2024, 5, 6, 0, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 5, 13, 0, 0), SEOUL),
+                SEOUL);
+
+            assertEquals(7, occurrences.size());
+            assertEquals(LocalDateTime.of(2024, 5, 6, 9, 0), occurrences.get(0).startDatetime());
+            assertEquals(LocalDateTime.of(2024, 5, 12, 9, 30), occurrences.get(6).endDatetime());
+        }
+
+        @DisplayName("반복 횟수를 넘는 반복은 생성하지 않음")
+        @Test
+        void countTest() {
+            Recurrence recurrence = Recurrence.builder()
+                .freq(RecurrenceFreqType.DAILY)
+                .intv(7)
+                .count(3)
+                .build();
+
+            List<OccurrenceVO> occurrences = RecurrenceUtils.expandWithinPeriod(recurrence,
+                toInstant(LocalDateTime.of(2024, 4, 30, 9, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 4, 30, 10, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 5, 1, 0, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 9, 30, 0, 0), SEOUL),
+                SEOUL);
+
+            assertEquals(2, occurrences.size());
+            assertEquals(LocalDateTime.of(2024, 5, 14, 9, 0), occurrences.get(1).startDatetime());
+        }
+
+        @DisplayName("반복 기한 이후의 반복은 생성하지 않음")
+        @Test
+        void expiredDateTest() {
+            Recurrence recurrence = Recurrence.builder()
+                .freq(RecurrenceFreqType.WEEKLY)
+                .intv(1)
+                .recurrenceDay(EnumSet.of(RecurrenceDayType.MON, RecurrenceDayType.THU))
+                .expiredDate(toInstant(LocalDateTime.of(2024, 5, 16, 0, 0), SEOUL))
+                .build();
+
+            List<OccurrenceVO> occurrences = RecurrenceUtils.expandWithinPeriod(recurrence,
+                toInstant(LocalDateTime.of(2024, 4, 29, 9, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 4, 29, 10, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 5, 6, 0, 0), SEOUL),
+                toInstant(LocalDateTime.of(2024, 6, 1, 0, 0), SEOUL),
+                SEOUL);
+
+            assertEquals(List.of(LocalDateTime.of(2024, 5, 6, 9, 0),
+                    LocalDateTime.of(2024, 5, 9, 9, 0),
+                    LocalDateTime.of(2024, 5, 13, 9, 0)),
+                occurrences.stream().map(OccurrenceVO::startDatetime).toList());
+        }
+
+        @DisplayName("시작부터 순회한 결과와 동일")
+        @Test
+        void sameAsNaiveExpansionTest() {
+            List<Recurrence> recurrences = List.of(
+                Recurrence.builder().freq(RecurrenceFreqType.DAILY).intv(3).build(),
+                Recurrence.builder().freq(RecurrenceFreqType.DAILY).intv(2).count(200).build(),
+                Recurrence.builder().freq(RecurrenceFreqType.MONTHLY).intv(1).build(),
+                Recurrence.builder().freq(RecurrenceFreqType.MONTHLY).intv(5).count(7).build(),
+                Recurrence.builder().freq(RecurrenceFreqType.WEEKLY).intv(2)
+                    .recurrenceDay(EnumSet.of(RecurrenceDayType.MON, RecurrenceDayType.SAT,
+                        RecurrenceDayType.SUN)).build(),
+                Recurrence.builder().freq(RecurrenceFreqType.WEEKLY).intv(1).count(30)
+                    .recurrenceDay(EnumSet.allOf(RecurrenceDayType.class)).build(),
+                Recurrence.builder().freq(RecurrenceFreqType.WEEKLY).intv(3)
+                    .recurrenceDay(EnumSet.of(RecurrenceDayType.WED))
+                    .expiredDate(toInstant(LocalDateTime.of(2024, 8, 1, 0, 0), NEW_YORK))
+                    .build()
+            );
+            Instant seriesStart = toInstant(LocalDateTime.of(2023, 1, 31, 23, 0), NEW_YORK);
+            Instant seriesEnd = toInstant(LocalDateTime.of(2023, 2, 1, 1, 30), NEW_YORK);
+
+            for (Recurrence recurrence : recurrences) {
+                for (LocalDateTime windowStart = LocalDateTime.of(2022, 12, 25, 0, 0);
+                    windowStart.isBefore(LocalDateTime.of(2025, 1, 1, 0, 0));
+                    windowStart = windowStart.plusDays(5)) {
+                    Instant start = toInstant(windowStart, NEW_YORK);
+                    Instant end = toInstant(windowStart.plusDays(9), NEW_YORK);
+                    List<OccurrenceVO> expected = naiveExpand(recurrence, seriesStart, seriesEnd,
+                        start, end);
+                    List<OccurrenceVO> actual = RecurrenceUtils.expandWithinPeriod(recurrence,
+                        seriesStart, seriesEnd, start, end, NEW_YORK);
+                    assertEquals(expected, actual,
+                        recurrence.getFreq() + " " + windowStart);
+                }
+            }
+        }
+    }
+
+    @DisplayName("주 반복 요일을 시작 요일 기준으로 정렬")
+    @Test
+    void sortDayListTest() {
+        List<Integer> dayList = RecurrenceUtils.sortDayList(
+            EnumSet.of(RecurrenceDayType.MON, RecurrenceDayType.WED, RecurrenceDayType.SUN),
+            DayOfWeek.WEDNESDAY);
+
+        assertEquals(List.of(0, 4, 5), dayList);
+        assertTrue(RecurrenceUtils.sortDayList(null, DayOfWeek.MONDAY).isEmpty());
+    }
+
+    private static Instant toInstant(LocalDateTime localDateTime, ZoneId zoneId) {
+        return AlterTimeUtils.LocalDateTimeToInstant(localDateTime, zoneId);
+    }
+
+    // 첫 반복부터 하나씩 순회하는 기준 구현
+    private static List<OccurrenceVO> naiveExpand(Recurrence recurrence, Instant seriesStart,
+        Instant seriesEnd, Instant start, Instant end) {
+        LocalDateTime firstStart = AlterTimeUtils.instantToLocalDateTime(seriesStart, NEW_YORK);
+        LocalDateTime firstEnd = AlterTimeUtils.instantToLocalDateTime(seriesEnd, NEW_YORK);
+        List<Integer> dayList = recurrence.getFreq() == RecurrenceFreqType.WEEKLY
+            ? RecurrenceUtils.sortDayList(recurrence.getRecurrenceDay(),
+            firstStart.getDayOfWeek()) : List.of(0);
+        List<OccurrenceVO> occurrences = new ArrayList<>();
+        for (int i = 0; recurrence.getCount() == null || i < recurrence.getCount(); i++) {
+            long step = (long) i * recurrence.getIntv();
+            LocalDateTime s = switch (recurrence.getFreq()) {
+                case DAILY -> firstStart.plusDays(step);
+                case MONTHLY -> firstStart.plusMonths(step);
+                case WEEKLY -> firstStart.plusWeeks(step);
+            };
+            LocalDateTime e = switch (recurrence.getFreq()) {
+                case DAILY -> firstEnd.plusDays(step);
+                case MONTHLY -> firstEnd.plusMonths(step);
+                case WEEKLY -> firstEnd.plusWeeks(step);
+            };
+            if (!toInstant(s, NEW_YORK).isBefore(end)) {
+                break;
+            }
+            for (Integer day : dayList) {
+                LocalDateTime os = s.plusDays(day);
+                LocalDateTime oe = e.plusDays(day);
+                Instant osInstant = toInstant(os, NEW_YORK);
+                Instant oeInstant = toInstant(oe, NEW_YORK);
+                if (!osInstant.isBefore(end) || (recurrence.getExpiredDate() != null
+                    && !osInstant.isBefore(recurrence.getExpiredDate()))) {
+                    continue;
+                }
+                if (oeInstant.isAfter(start)) {
+                    occurrences.add(new OccurrenceVO(os, oe, osInstant, oeInstant));
+                }
+            }
+        }
+        return occurrences;
+    }
+}